@@ -0,0 +1,56 @@
+package com.enterprise.automation.benchmarks;
+
+import com.enterprise.automation.config.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration getters are called on every navigation, wait and context creation
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigurationBenchmark {
+    private Configuration config;
+
+    @Setup
+    public void setUp() {
+        config = Configuration.getInstance();
+    }
+
+    @Benchmark
+    public Configuration getInstance() {
+        return Configuration.getInstance();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Configuration getInstanceContended() {
+        return Configuration.getInstance();
+    }
+
+    @Benchmark
+    public String getBaseUrl() {
+        return config.getBaseUrl();
+    }
+
+    @Benchmark
+    public int getTimeout() {
+        return config.getTimeout();
+    }
+
+    @Benchmark
+    public boolean isHeadless() {
+        return config.isHeadless();
+    }
+
+    @Benchmark
+    public List<String> getListConfig() {
+        return config.getBlockedResourceTypes();
+    }
+}
@@ -0,0 +1,56 @@
+package com.enterprise.automation.benchmarks;
+
+import com.enterprise.automation.browser.PlaywrightFactory;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-test browser context cost: create context and page, load a static fixture, close
+ * "framework" goes through PlaywrightFactory (resource blocker and tracing), "bare" uses plain options
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContextCreationBenchmark {
+    private Browser browser;
+    private String fixtureUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        browser = PlaywrightFactory.getBrowser();
+        fixtureUrl = Fixtures.fileUrl(Fixtures.STATIC_PAGE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        PlaywrightFactory.closeThreadPlaywright();
+    }
+
+    @Benchmark
+    public String bareContext() {
+        try (BrowserContext context = browser.newContext(PlaywrightFactory.newContextOptions())) {
+            Page page = context.newPage();
+            page.navigate(fixtureUrl);
+            return page.title();
+        }
+    }
+
+    @Benchmark
+    public String frameworkContext() {
+        try {
+            Page page = PlaywrightFactory.getPage();
+            page.navigate(fixtureUrl);
+            return page.title();
+        } finally {
+            PlaywrightFactory.closePage();
+            PlaywrightFactory.closeContext();
+        }
+    }
+}
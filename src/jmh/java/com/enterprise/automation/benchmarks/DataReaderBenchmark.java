@@ -0,0 +1,128 @@
+package com.enterprise.automation.benchmarks;
+
+import com.enterprise.automation.util.DataReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * DataReader parsing cost for data-driven tests at small and large data sets
+ * Data files are generated once per trial into a temp directory
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx2g")
+public class DataReaderBenchmark {
+    private static final String SHEET = "Users";
+    private static final String[] HEADERS = {"username", "password", "email", "role", "active"};
+
+    @Param({"1000", "100000"})
+    public int rows;
+
+    private Path dataDir;
+    private Path excelFile;
+    private Path csvFile;
+    private Path jsonFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dataDir = Files.createTempDirectory("datareader-bench");
+        excelFile = dataDir.resolve("users.xlsx");
+        csvFile = dataDir.resolve("users.csv");
+        jsonFile = dataDir.resolve("users.json");
+        writeExcel();
+        writeCsv();
+        writeJson();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(dataDir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Map<String, String>> readExcel() throws IOException {
+        return DataReader.readExcelData(excelFile, SHEET);
+    }
+
+    @Benchmark
+    public List<Map<String, String>> readCsv() throws IOException {
+        return DataReader.readCsvData(csvFile);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> readJson() throws IOException {
+        return DataReader.readJsonData(jsonFile);
+    }
+
+    private String[] row(int index) {
+        return new String[] {"user" + index, "Secret#" + index, "user" + index + "@example.com",
+                index % 10 == 0 ? "admin" : "user", String.valueOf(index % 3 != 0)};
+    }
+
+    private void writeExcel() throws IOException {
+        // Streaming workbook keeps only a window of rows in memory while writing 100k rows
+        try (SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+             OutputStream out = Files.newOutputStream(excelFile)) {
+            Sheet sheet = workbook.createSheet(SHEET);
+            writeExcelRow(sheet.createRow(0), HEADERS);
+            for (int i = 1; i <= rows; i++) {
+                writeExcelRow(sheet.createRow(i), row(i));
+            }
+            workbook.write(out);
+            workbook.dispose();
+        }
+    }
+
+    private static void writeExcelRow(Row row, String[] values) {
+        for (int j = 0; j < values.length; j++) {
+            row.createCell(j).setCellValue(values[j]);
+        }
+    }
+
+    private void writeCsv() throws IOException {
+        try (Writer writer = Files.newBufferedWriter(csvFile)) {
+            writer.write(String.join(",", HEADERS));
+            writer.write('\n');
+            for (int i = 1; i <= rows; i++) {
+                writer.write(String.join(",", row(i)));
+                writer.write('\n');
+            }
+        }
+    }
+
+    private void writeJson() throws IOException {
+        List<Map<String, String>> records = new ArrayList<>(rows);
+        for (int i = 1; i <= rows; i++) {
+            String[] values = row(i);
+            Map<String, String> record = new LinkedHashMap<>();
+            for (int j = 0; j < HEADERS.length; j++) {
+                record.put(HEADERS[j], values[j]);
+            }
+            records.add(record);
+        }
+        new ObjectMapper().writeValue(jsonFile.toFile(), records);
+    }
+}
@@ -0,0 +1,193 @@
+package com.enterprise.automation.benchmarks;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded fixture web app matching the LoginPage, HomePage and DashboardPage selectors
+ * Login is validated in the page, table data comes from /api/items with a configurable backend delay
+ */
+public class FixtureServer implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(FixtureServer.class);
+    private static final int PAGE_SIZE = 10;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final long apiDelayMs;
+
+    private FixtureServer(HttpServer server, ExecutorService executor, long apiDelayMs) {
+        this.server = server;
+        this.executor = executor;
+        this.apiDelayMs = apiDelayMs;
+    }
+
+    /**
+     * Start on a free loopback port; apiDelayMs simulates backend latency of the data API
+     */
+    public static FixtureServer start(long apiDelayMs) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        FixtureServer fixture = new FixtureServer(server, executor, apiDelayMs);
+        server.createContext("/", fixture::handle);
+        server.setExecutor(executor);
+        server.start();
+        logger.info("Fixture server started: {}", fixture.getBaseUrl());
+        return fixture;
+    }
+
+    public String getBaseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+        logger.info("Fixture server stopped");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            switch (path) {
+                case "/", "/home" -> send(exchange, 200, "text/html", homePage("Dashboard"));
+                case "/reports" -> send(exchange, 200, "text/html", homePage("Reports"));
+                case "/login" -> send(exchange, 200, "text/html", LOGIN_PAGE);
+                case "/logout" -> redirect(exchange, "/login");
+                case "/forgot-password" -> send(exchange, 200, "text/html", page("Forgot password", "<h1>Forgot password</h1>"));
+                case "/api/items" -> items(exchange);
+                default -> send(exchange, 404, "text/plain", "Not found");
+            }
+        }
+    }
+
+    private void items(HttpExchange exchange) throws IOException {
+        String query = exchange.getRequestURI().getRawQuery();
+        int offset = Integer.parseInt(param(query, "offset", "0"));
+        String term = param(query, "q", "");
+        if (apiDelayMs > 0) {
+            try {
+                Thread.sleep(apiDelayMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        StringBuilder json = new StringBuilder("[");
+        for (int i = offset; i < offset + PAGE_SIZE; i++) {
+            if (i > offset) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(i + 1)
+                    .append(",\"name\":\"").append(term.isEmpty() ? "Item" : escape(term)).append(' ').append(i + 1)
+                    .append("\"}");
+        }
+        send(exchange, 200, "application/json", json.append(']').toString());
+    }
+
+    private static String param(String query, String name, String defaultValue) {
+        if (query == null) {
+            return defaultValue;
+        }
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return defaultValue;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("<", "").replace(">", "");
+    }
+
+    private static void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().set("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String page(String title, String body) {
+        return "<!DOCTYPE html><html lang=\"en\"><head><meta charset=\"UTF-8\"><title>" + title
+                + "</title></head><body>" + body + "</body></html>";
+    }
+
+    private static String homePage(String title) {
+        StringBuilder rows = new StringBuilder();
+        for (int i = 1; i <= PAGE_SIZE; i++) {
+            rows.append("<tr><td>").append(i).append("</td><td>Item ").append(i).append("</td></tr>");
+        }
+        return page(title, """
+                <header>
+                    <span class="welcome-text">Welcome back, User</span>
+                    <button aria-label="user-menu" onclick="document.getElementById('menu').hidden = false">Menu</button>
+                    <div id="menu" hidden><a href="/logout">Logout</a></div>
+                </header>
+                <nav class="sidebar"><a href="/">Dashboard</a><a href="/reports">Reports</a></nav>
+                <main class="dashboard-content">
+                    <h1>%s</h1>
+                    <input placeholder="Search...">
+                    <table><tbody>%s</tbody></table>
+                    <button data-action="load-more">Load more</button>
+                </main>
+                <script>
+                    const body = document.querySelector('table tbody');
+                    const render = (items, append) => {
+                        const html = items.map(item => '<tr><td>' + item.id + '</td><td>' + item.name + '</td></tr>').join('');
+                        body.innerHTML = append ? body.innerHTML + html : html;
+                    };
+                    document.querySelector("input[placeholder='Search...']").addEventListener('input', event =>
+                        fetch('/api/items?q=' + encodeURIComponent(event.target.value))
+                            .then(response => response.json()).then(items => render(items, false)));
+                    document.querySelector("button[data-action='load-more']").addEventListener('click', () =>
+                        fetch('/api/items?offset=' + body.rows.length)
+                            .then(response => response.json()).then(items => render(items, true)));
+                </script>
+                """.formatted(title, rows));
+    }
+
+    private static final String LOGIN_PAGE = page("Login", """
+            <h1>Sign in</h1>
+            <form id="login-form">
+                <input name="email" type="email">
+                <input name="password" type="password">
+                <label><input name="rememberMe" type="checkbox"> Remember me</label>
+                <button type="submit">Login</button>
+                <a href="/forgot-password">Forgot password?</a>
+            </form>
+            <div class="error-message" hidden></div>
+            <script>
+                document.getElementById('login-form').addEventListener('submit', event => {
+                    event.preventDefault();
+                    const email = event.target.email.value;
+                    const password = event.target.password.value;
+                    if (email.startsWith('invalid') || password === 'WrongPassword') {
+                        const error = document.querySelector('.error-message');
+                        error.textContent = 'Invalid credentials';
+                        error.hidden = false;
+                    } else {
+                        location.href = '/';
+                    }
+                });
+            </script>
+            """);
+}
@@ -0,0 +1,26 @@
+package com.enterprise.automation.benchmarks;
+
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Paths;
+
+/**
+ * Static HTML fixtures served from the filesystem, so browser benchmarks need no network
+ */
+final class Fixtures {
+    static final String STATIC_PAGE = "/fixtures/static-page.html";
+
+    private Fixtures() {}
+
+    static String fileUrl(String resource) {
+        URL url = Fixtures.class.getResource(resource);
+        if (url == null) {
+            throw new IllegalStateException("Fixture not found on classpath: " + resource);
+        }
+        try {
+            return Paths.get(url.toURI()).toUri().toString();
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException("Invalid fixture location: " + url, e);
+        }
+    }
+}
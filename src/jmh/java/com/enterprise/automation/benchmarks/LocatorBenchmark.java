@@ -0,0 +1,82 @@
+package com.enterprise.automation.benchmarks;
+
+import com.enterprise.automation.browser.PlaywrightFactory;
+import com.enterprise.automation.pages.BasePage;
+import com.enterprise.automation.pages.PageObjectRegistry;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Selector to Locator construction in BasePage and page object lookup
+ * The visible-wait benchmarks include the driver round trip, the others are client side only
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocatorBenchmark {
+    private static final String SELECTOR = "#login-btn";
+
+    private Page page;
+    private FixturePage fixturePage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        page = PlaywrightFactory.getPage();
+        page.navigate(Fixtures.fileUrl(Fixtures.STATIC_PAGE));
+        fixturePage = PageObjectRegistry.get(FixturePage.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        PageObjectRegistry.clear();
+        PlaywrightFactory.closeThreadPlaywright();
+    }
+
+    @Benchmark
+    public Locator uncachedLocator() {
+        return page.locator(SELECTOR);
+    }
+
+    @Benchmark
+    public Locator cachedLocator() {
+        return fixturePage.find(SELECTOR);
+    }
+
+    @Benchmark
+    public FixturePage newPageObject() {
+        return new FixturePage();
+    }
+
+    @Benchmark
+    public FixturePage registryPageObject() {
+        return PageObjectRegistry.get(FixturePage.class);
+    }
+
+    @Benchmark
+    public boolean waitForVisibleTwoRoundTrips() {
+        page.waitForSelector(SELECTOR);
+        return page.locator(SELECTOR).isVisible();
+    }
+
+    @Benchmark
+    public boolean waitForVisibleCachedLocator() {
+        Locator locator = fixturePage.find(SELECTOR);
+        locator.waitFor();
+        return locator.isVisible();
+    }
+
+    /**
+     * Minimal page object exposing the cached locator lookup of BasePage
+     */
+    public static class FixturePage extends BasePage {
+        public Locator find(String selector) {
+            return locator(selector);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.enterprise.automation.benchmarks;
+
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logging overhead of one page action (the debug and info lines of a BasePage click plus a WaitHelper wait)
+ * with synchronous appenders vs async loggers, at debug, info and off, from 4 parallel test threads
+ * work adds CPU time per action so the logger is measured below saturation, as in a real suite
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+public class LoggingBenchmark {
+    private static final String CONFIG = "-Dlog4j2.configurationFile=log4j2-benchmark.properties";
+    private static final Logger logger = LoggerFactory.getLogger("com.enterprise.automation.pages.BasePage");
+    private static final String SELECTOR = "button[type='submit']";
+
+    @Param({"debug", "info", "off"})
+    public String level;
+
+    @Param({"0", "20000"})
+    public long work;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Configurator.setLevel("com.enterprise.automation", org.apache.logging.log4j.Level.toLevel(level));
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {CONFIG,
+            "-Dlog4j2.contextSelector=org.apache.logging.log4j.core.selector.ClassLoaderContextSelector"})
+    public void syncAppenders() {
+        pageAction(work);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = {CONFIG,
+            "-Dlog4j2.contextSelector=org.apache.logging.log4j.core.async.AsyncLoggerContextSelector"})
+    public void asyncLoggers() {
+        pageAction(work);
+    }
+
+    private static void pageAction(long work) {
+        Blackhole.consumeCPU(work);
+        logger.info("Element visible: {}", SELECTOR);
+        logger.debug("Clicked element: {}", SELECTOR);
+        logger.info("Clicked login button");
+    }
+}
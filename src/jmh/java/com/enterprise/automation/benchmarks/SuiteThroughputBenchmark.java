@@ -0,0 +1,201 @@
+package com.enterprise.automation.benchmarks;
+
+import com.enterprise.automation.browser.PlaywrightFactory;
+import com.enterprise.automation.config.Configuration;
+import com.enterprise.automation.pages.DashboardPage;
+import com.enterprise.automation.pages.HomePage;
+import com.enterprise.automation.pages.LoginPage;
+import com.enterprise.automation.pages.PageObjectRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * End-to-end suite throughput against the embedded fixture app
+ * Runs the page object flows of LoginTests and DashboardTests at each thread count and reports
+ * tests per minute and p95 step latency, written to target/suite-throughput.json
+ *
+ * System properties: suite.threads (default 1,2,4,8), suite.tests per thread count (default 40),
+ * suite.api.delay backend delay of the fixture data API in ms (default 20), suite.results output file
+ */
+public class SuiteThroughputBenchmark {
+    private static final Logger logger = LoggerFactory.getLogger(SuiteThroughputBenchmark.class);
+
+    private static final List<Flow> FLOWS = List.of(
+            new Flow("validLogin", SuiteThroughputBenchmark::validLogin),
+            new Flow("invalidLogin", SuiteThroughputBenchmark::invalidLogin),
+            new Flow("dashboardSearch", SuiteThroughputBenchmark::dashboardSearch),
+            new Flow("dashboardPagination", SuiteThroughputBenchmark::dashboardPagination),
+            new Flow("menuNavigation", SuiteThroughputBenchmark::menuNavigation));
+
+    private static final ThreadLocal<Map<String, ConcurrentLinkedQueue<Long>>> currentSteps = new ThreadLocal<>();
+
+    public static void main(String[] args) throws Exception {
+        int[] threadCounts = Arrays.stream(System.getProperty("suite.threads", "1,2,4,8").split(","))
+                .map(String::trim).mapToInt(Integer::parseInt).toArray();
+        int tests = Integer.getInteger("suite.tests", 40);
+        long apiDelay = Long.getLong("suite.api.delay", 20);
+        Path results = Paths.get(System.getProperty("suite.results", "target/suite-throughput.json"));
+
+        List<Map<String, Object>> report = new ArrayList<>();
+        try (FixtureServer server = FixtureServer.start(apiDelay)) {
+            // Point the page objects at the fixture app instead of the configured environment
+            String env = Configuration.getInstance().getEnv("environment", "qa");
+            System.setProperty(env + ".base.url", server.getBaseUrl());
+
+            for (int threads : threadCounts) {
+                report.add(run(threads, tests));
+            }
+        }
+
+        Files.createDirectories(results.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(results.toFile(), report);
+        logger.info("Suite throughput results written to {}", results);
+        PlaywrightFactory.closePlaywright();
+    }
+
+    /**
+     * Run the given number of tests on a fixed set of worker threads, one browser per worker
+     */
+    private static Map<String, Object> run(int threads, int tests) throws InterruptedException {
+        Map<String, ConcurrentLinkedQueue<Long>> steps = new ConcurrentHashMap<>();
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger passed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            workers.add(Thread.ofPlatform().name("suite-worker-" + t).start(() -> {
+                currentSteps.set(steps);
+                try {
+                    // Browser launch is per-worker setup, not part of the measured suite time
+                    PlaywrightFactory.getBrowser();
+                    ready.countDown();
+                    start.await();
+                    int index;
+                    while ((index = next.getAndIncrement()) < tests) {
+                        Flow flow = FLOWS.get(index % FLOWS.size());
+                        try {
+                            step("test." + flow.name(), flow.body());
+                            passed.incrementAndGet();
+                        } catch (RuntimeException | AssertionError e) {
+                            failed.incrementAndGet();
+                            logger.warn("Flow {} failed: {}", flow.name(), e.getMessage());
+                        } finally {
+                            PageObjectRegistry.clear();
+                            PlaywrightFactory.closeAll();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    ready.countDown();
+                    currentSteps.remove();
+                    PlaywrightFactory.closeThreadPlaywright();
+                }
+            }));
+        }
+
+        ready.await();
+        long startNanos = System.nanoTime();
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double minutes = (System.nanoTime() - startNanos) / 60_000_000_000.0;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("threads", threads);
+        result.put("passed", passed.get());
+        result.put("failed", failed.get());
+        result.put("testsPerMinute", Math.round((passed.get() + failed.get()) / minutes * 10) / 10.0);
+        Map<String, Long> p95 = new TreeMap<>();
+        steps.forEach((step, samples) -> p95.put(step, percentileMillis(samples, 95)));
+        result.put("p95StepMillis", p95);
+        logger.info("Suite throughput: {} threads, {} passed, {} failed, {} tests/min, p95 steps: {}",
+                threads, passed.get(), failed.get(), result.get("testsPerMinute"), p95);
+        return result;
+    }
+
+    private static long percentileMillis(ConcurrentLinkedQueue<Long> samples, int percentile) {
+        long[] sorted = samples.stream().mapToLong(Long::longValue).sorted().toArray();
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, rank)] / 1_000_000;
+    }
+
+    private static void step(String name, Runnable action) {
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            currentSteps.get().computeIfAbsent(name, key -> new ConcurrentLinkedQueue<>())
+                    .add(System.nanoTime() - start);
+        }
+    }
+
+    // Flows mirror LoginTests and DashboardTests
+
+    private static void login(String email, String password) {
+        LoginPage loginPage = PageObjectRegistry.get(LoginPage.class);
+        step("login.open", loginPage::navigateToLoginPage);
+        step("login.submit", () -> loginPage.login(email, password));
+    }
+
+    private static DashboardPage loggedInDashboard() {
+        login("user@example.com", "Password123");
+        step("home.verifyLoaded", () -> PageObjectRegistry.get(HomePage.class).verifyHomePageLoaded());
+        return PageObjectRegistry.get(DashboardPage.class);
+    }
+
+    private static void validLogin() {
+        login("user@example.com", "Password123");
+        HomePage homePage = PageObjectRegistry.get(HomePage.class);
+        step("home.verifyLoaded", homePage::verifyHomePageLoaded);
+        step("home.verifyUser", () -> homePage.verifyUserLoggedIn("User"));
+    }
+
+    private static void invalidLogin() {
+        login("invalid@example.com", "WrongPassword");
+        step("login.verifyError", () -> PageObjectRegistry.get(LoginPage.class).verifyErrorMessage("Invalid credentials"));
+    }
+
+    private static void dashboardSearch() {
+        DashboardPage dashboardPage = loggedInDashboard();
+        step("dashboard.search", () -> dashboardPage.searchForItem("test item"));
+        step("dashboard.verifyRows", dashboardPage::verifyTableHasRows);
+    }
+
+    private static void dashboardPagination() {
+        DashboardPage dashboardPage = loggedInDashboard();
+        step("dashboard.loadMore", dashboardPage::clickLoadMore);
+        step("dashboard.rowCount", dashboardPage::getTableRowCount);
+    }
+
+    private static void menuNavigation() {
+        DashboardPage dashboardPage = loggedInDashboard();
+        step("dashboard.menu", () -> dashboardPage.clickMenuItemByText("Reports"));
+        step("dashboard.verifyTitle", () -> dashboardPage.verifyDashboardTitle("Reports"));
+    }
+
+    private record Flow(String name, Runnable body) {}
+}
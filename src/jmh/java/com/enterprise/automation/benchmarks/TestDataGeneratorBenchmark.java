@@ -0,0 +1,49 @@
+package com.enterprise.automation.benchmarks;
+
+import com.enterprise.automation.util.TestDataGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestDataGenerator throughput single-threaded and under contention from parallel test threads
+ * All generators share one static Faker, so the contended numbers show how well it scales
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestDataGeneratorBenchmark {
+
+    @Benchmark
+    @Threads(1)
+    public String emailSingleThread() {
+        return TestDataGenerator.generateEmail();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String emailContended() {
+        return TestDataGenerator.generateEmail();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String fullNameSingleThread() {
+        return TestDataGenerator.generateFirstName() + " " + TestDataGenerator.generateLastName();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String fullNameContended() {
+        return TestDataGenerator.generateFirstName() + " " + TestDataGenerator.generateLastName();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String passwordContended() {
+        return TestDataGenerator.generatePassword();
+    }
+}
@@ -0,0 +1,113 @@
+package com.enterprise.automation.benchmarks;
+
+import com.enterprise.automation.visual.Raster;
+import com.enterprise.automation.visual.VisualComparator;
+import org.openjdk.jmh.annotations.*;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Visual diff engine on 1920x1080 screenshots (baseline decoded and hashed once, as VisualBaselines caches it)
+ * against a naive BufferedImage.getRGB pixel loop
+ * Cases: identical content in separate arrays, a handful of changed pixels and a moved 400x300 block
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VisualComparatorBenchmark {
+    private static final int WIDTH = 1920;
+    private static final int HEIGHT = 1080;
+
+    @Param({"identical", "few-pixels", "moved-block"})
+    public String change;
+
+    private VisualComparator comparator;
+    private Raster baseline;
+    private long baselineHash;
+    private Raster actual;
+    private byte[] actualPng;
+    private BufferedImage baselineImage;
+    private BufferedImage actualImage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        comparator = new VisualComparator(0, 10, 0.001, 12);
+        int[] pixels = page(new Random(42));
+        int[] changed = pixels.clone();
+        switch (change) {
+            case "few-pixels" -> {
+                for (int i = 0; i < 20; i++) {
+                    changed[i * 7919 % changed.length] = 0xFFFF00FF;
+                }
+            }
+            case "moved-block" -> {
+                for (int y = 300; y < 600; y++) {
+                    System.arraycopy(pixels, y * WIDTH + 200, changed, (y + 40) * WIDTH + 260, 400);
+                }
+            }
+            default -> { }
+        }
+        baseline = new Raster(WIDTH, HEIGHT, pixels);
+        baselineHash = baseline.differenceHash();
+        actual = new Raster(WIDTH, HEIGHT, changed);
+        actualPng = actual.toPng();
+        baselineImage = image(pixels);
+        actualImage = image(changed);
+    }
+
+    @Benchmark
+    public VisualComparator.Result rasterCompare() {
+        return comparator.compare(baseline, baselineHash, actual);
+    }
+
+    @Benchmark
+    public VisualComparator.Result decodeAndCompare() throws IOException {
+        return comparator.compare(baseline, baselineHash, Raster.decode(actualPng));
+    }
+
+    @Benchmark
+    public long naivePixelLoop() {
+        long diff = 0;
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                if (baselineImage.getRGB(x, y) != actualImage.getRGB(x, y)) {
+                    diff++;
+                }
+            }
+        }
+        return diff;
+    }
+
+    /**
+     * Page-like content: light background, header bar and rows of text-like noise
+     */
+    private static int[] page(Random random) {
+        int[] pixels = new int[WIDTH * HEIGHT];
+        java.util.Arrays.fill(pixels, 0xFFF5F5F5);
+        for (int y = 0; y < 80; y++) {
+            java.util.Arrays.fill(pixels, y * WIDTH, (y + 1) * WIDTH, 0xFF1E3A5F);
+        }
+        for (int row = 120; row < HEIGHT - 20; row += 28) {
+            for (int y = row; y < row + 14; y++) {
+                for (int x = 40; x < WIDTH - 40; x++) {
+                    if (random.nextInt(3) == 0) {
+                        pixels[y * WIDTH + x] = 0xFF333333;
+                    }
+                }
+            }
+        }
+        return pixels;
+    }
+
+    private static BufferedImage image(int[] pixels) {
+        BufferedImage image = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, WIDTH, HEIGHT, pixels, 0, WIDTH);
+        return image;
+    }
+}
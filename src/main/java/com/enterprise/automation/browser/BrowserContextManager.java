@@ -24,11 +24,8 @@ public class BrowserContextManager {
         Map<String, BrowserContext> contexts = contextMap.get();
         
         BrowserContext context = PlaywrightFactory.getBrowser()
-                .newContext(new Browser.NewContextOptions()
-                        .setViewportSize(1920, 1080)
-                        .setIgnoreHTTPSErrors(true)
-                        .setAcceptDownloads(true)
-                );
+                .newContext(PlaywrightFactory.newContextOptions());
+        ResourceBlocker.install(context);
         
         contexts.put(contextName, context);
         logger.info("Named context created: {}", contextName);
@@ -58,34 +55,52 @@ public class BrowserContextManager {
     }
 
     /**
-     * Setup network interception for API mocking
+     * Get routing registry for the active context
      */
-    public static void interceptNetworkRequests(String urlPattern, String responseBody) {
-        BrowserContext context = getActiveContext();
-        Page page = context.newPage();
-        
-        page.route(urlPattern, route -> {
-            route.abort();
-            logger.info("Request intercepted and aborted: {}", urlPattern);
-        });
+    public static RouteRegistry getRouteRegistry() {
+        return RouteRegistry.forContext(getActiveContext());
+    }
+
+    /**
+     * Setup network interception: abort matching requests, or fulfill them when a body is given
+     */
+    public static RouteRegistry.RouteRule interceptNetworkRequests(String urlPattern, String responseBody) {
+        RouteRegistry registry = getRouteRegistry();
+        if (responseBody == null) {
+            logger.info("Requests will be intercepted and aborted: {}", urlPattern);
+            return registry.abort(urlPattern);
+        }
+        logger.info("Requests will be intercepted and fulfilled: {}", urlPattern);
+        return registry.mock(urlPattern, responseBody, 200);
     }
 
     /**
      * Mock API responses
      */
-    public static void mockApiResponse(String urlPattern, String responseJson, int statusCode) {
-        BrowserContext context = getActiveContext();
-        Page page = context.newPage();
-        
-        page.route(urlPattern, route -> {
-            route.fulfill(new Route.FulfillOptions()
-                    .setStatus(statusCode)
-                    .setContentType("application/json")
-                    .setBody(responseJson)
-            );
-        });
-        
+    public static RouteRegistry.RouteRule mockApiResponse(String urlPattern, String responseJson, int statusCode) {
+        RouteRegistry.RouteRule rule = getRouteRegistry().mock(urlPattern, responseJson, statusCode);
         logger.info("API response mocked for: {} with status: {}", urlPattern, statusCode);
+        return rule;
+    }
+
+    /**
+     * Mock API responses with an artificial latency
+     */
+    public static RouteRegistry.RouteRule mockApiResponse(String urlPattern, String responseJson, int statusCode, long delayMs) {
+        RouteRegistry.RouteRule rule = getRouteRegistry().add(
+                new RouteRegistry.RouteRule(urlPattern, RouteRegistry.RouteAction.FULFILL)
+                        .withBody(responseJson)
+                        .withStatus(statusCode)
+                        .withDelay(delayMs));
+        logger.info("API response mocked for: {} with status: {} and delay: {}ms", urlPattern, statusCode, delayMs);
+        return rule;
+    }
+
+    /**
+     * Remove interception rules for a URL pattern
+     */
+    public static void removeRoute(String urlPattern) {
+        getRouteRegistry().remove(urlPattern);
     }
 
     /**
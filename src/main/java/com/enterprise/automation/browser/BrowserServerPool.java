@@ -0,0 +1,134 @@
+package com.enterprise.automation.browser;
+
+import com.enterprise.automation.config.Configuration;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.PlaywrightException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Pool of remote browser server endpoints used when browser.mode is remote or server
+ * Balances connections by least active connections (round-robin on ties) and skips endpoints
+ * that recently refused a connection until their cool-down has passed
+ */
+public class BrowserServerPool {
+    private static final Logger logger = LoggerFactory.getLogger(BrowserServerPool.class);
+    private static final long UNHEALTHY_COOLDOWN_MS = 30_000;
+    private static volatile BrowserServerPool instance;
+
+    private final List<Endpoint> endpoints;
+    private final List<LocalBrowserServer> localServers;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final int retries;
+
+    private BrowserServerPool(List<String> wsEndpoints, List<LocalBrowserServer> localServers, int retries) {
+        if (wsEndpoints.isEmpty()) {
+            throw new IllegalStateException("No browser server endpoints configured (browser.server.endpoints)");
+        }
+        this.endpoints = wsEndpoints.stream().map(Endpoint::new).toList();
+        this.localServers = localServers;
+        this.retries = retries;
+    }
+
+    /**
+     * Get the pool for the configured mode; "server" starts local browser servers as stand-ins for remote nodes
+     */
+    public static BrowserServerPool getInstance() {
+        if (instance == null) {
+            synchronized (BrowserServerPool.class) {
+                if (instance == null) {
+                    instance = create(Configuration.getInstance());
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static BrowserServerPool create(Configuration config) {
+        List<LocalBrowserServer> localServers = new ArrayList<>();
+        List<String> wsEndpoints = new ArrayList<>(config.getBrowserServerEndpoints());
+        if ("server".equals(config.getBrowserMode())) {
+            for (int i = 0; i < config.getLocalBrowserServerCount(); i++) {
+                LocalBrowserServer server = LocalBrowserServer.start(0);
+                localServers.add(server);
+                wsEndpoints.add(server.getWsEndpoint());
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> localServers.forEach(LocalBrowserServer::close)));
+        }
+        logger.info("Browser server pool: {}", wsEndpoints);
+        return new BrowserServerPool(wsEndpoints, localServers, config.getBrowserServerRetries());
+    }
+
+    /**
+     * Connect to the least loaded healthy endpoint, failing over to the next ones
+     */
+    public Browser connect(Playwright playwright, String browserType) {
+        BrowserType type = switch (browserType) {
+            case "firefox" -> playwright.firefox();
+            case "webkit" -> playwright.webkit();
+            default -> playwright.chromium();
+        };
+        BrowserType.ConnectOptions options = new BrowserType.ConnectOptions()
+                .setTimeout(Configuration.getInstance().getTimeout())
+                .setSlowMo(Configuration.getInstance().getSlowmo());
+
+        PlaywrightException lastError = null;
+        for (int attempt = 0; attempt < retries * endpoints.size(); attempt++) {
+            Endpoint endpoint = select();
+            try {
+                Browser browser = type.connect(endpoint.wsEndpoint, options);
+                endpoint.active.incrementAndGet();
+                browser.onDisconnected(closed -> endpoint.active.decrementAndGet());
+                logger.info("Connected to browser server: {} ({} active)", endpoint.wsEndpoint, endpoint.active.get());
+                return browser;
+            } catch (PlaywrightException e) {
+                lastError = e;
+                endpoint.unhealthyUntil.set(System.currentTimeMillis() + UNHEALTHY_COOLDOWN_MS);
+                logger.warn("Browser server unavailable: {} - {}", endpoint.wsEndpoint, e.getMessage());
+            }
+        }
+        throw new PlaywrightException("No browser server endpoint accepted a connection", lastError);
+    }
+
+    /**
+     * Least active connections among healthy endpoints; all endpoints are candidates when none is healthy
+     */
+    private Endpoint select() {
+        long now = System.currentTimeMillis();
+        int start = Math.floorMod(cursor.getAndIncrement(), endpoints.size());
+        Endpoint best = null;
+        Endpoint fallback = null;
+        for (int i = 0; i < endpoints.size(); i++) {
+            Endpoint candidate = endpoints.get((start + i) % endpoints.size());
+            if (fallback == null || candidate.unhealthyUntil.get() < fallback.unhealthyUntil.get()) {
+                fallback = candidate;
+            }
+            if (candidate.unhealthyUntil.get() <= now
+                    && (best == null || candidate.active.get() < best.active.get())) {
+                best = candidate;
+            }
+        }
+        return best != null ? best : fallback;
+    }
+
+    public List<LocalBrowserServer> getLocalServers() {
+        return localServers;
+    }
+
+    private static class Endpoint {
+        private final String wsEndpoint;
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicLong unhealthyUntil = new AtomicLong();
+
+        Endpoint(String wsEndpoint) {
+            this.wsEndpoint = wsEndpoint;
+        }
+    }
+}
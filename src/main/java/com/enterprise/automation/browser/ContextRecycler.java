@@ -0,0 +1,175 @@
+package com.enterprise.automation.browser;
+
+import com.enterprise.automation.config.Configuration;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Route;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resets a browser context between tests instead of closing it (context.recycling=true)
+ * Clears cookies, permission overrides, RouteRegistry rules and the storage and service workers of every
+ * origin the context visited. Contexts with state that cannot be reset reliably (popups or extra tabs,
+ * video recording, a lost browser) are reported as unsafe so the caller closes them and the next test gets
+ * a fresh one
+ */
+public class ContextRecycler {
+    private static final Logger logger = LoggerFactory.getLogger(ContextRecycler.class);
+    private static final boolean ENABLED = Configuration.getInstance().isContextRecyclingEnabled();
+    private static final String BLANK_HTML = "<!DOCTYPE html><html><head></head><body></body></html>";
+    private static final String CLEAR_STORAGE = """
+            async () => {
+                try { localStorage.clear(); } catch (e) {}
+                try { sessionStorage.clear(); } catch (e) {}
+                if (self.indexedDB && indexedDB.databases) {
+                    for (const db of await indexedDB.databases()) indexedDB.deleteDatabase(db.name);
+                }
+                if (navigator.serviceWorker) {
+                    for (const reg of await navigator.serviceWorker.getRegistrations()) await reg.unregister();
+                }
+                if (self.caches) {
+                    for (const key of await caches.keys()) await caches.delete(key);
+                }
+            }""";
+    private static final Map<BrowserContext, Set<String>> visitedOrigins = new ConcurrentHashMap<>();
+    private static final LongAdder recycled = new LongAdder();
+    private static final LongAdder recreated = new LongAdder();
+
+    static {
+        String videoMode = Configuration.getInstance().getVideoMode();
+        if (ENABLED && ("on".equals(videoMode) || "retain_on_failure".equals(videoMode))) {
+            logger.warn("context.recycling=true ignored: video mode '{}' records one video per context, "
+                    + "set video=off to recycle contexts", videoMode);
+        }
+    }
+
+    private ContextRecycler() {}
+
+    /**
+     * Recycling applies only when enabled and the context does not record video
+     */
+    public static boolean isEnabled() {
+        String videoMode = Configuration.getInstance().getVideoMode();
+        return ENABLED && !"on".equals(videoMode) && !"retain_on_failure".equals(videoMode);
+    }
+
+    /**
+     * Remember the origins pages of this context navigate to, so their storage can be cleared later
+     */
+    public static void track(BrowserContext context) {
+        if (!isEnabled()) {
+            return;
+        }
+        Set<String> origins = ConcurrentHashMap.newKeySet();
+        visitedOrigins.put(context, origins);
+        context.onClose(closed -> visitedOrigins.remove(closed));
+        context.onPage(page -> page.onFrameNavigated(frame -> {
+            String origin = origin(frame.url());
+            if (origin != null) {
+                origins.add(origin);
+            }
+        }));
+    }
+
+    /**
+     * Reset a context whose test pages are already closed
+     * @return true when the context can serve the next test, false when it must be closed
+     */
+    public static boolean reset(BrowserContext context) {
+        String unsafe = unsafeState(context);
+        if (unsafe != null) {
+            recreated.increment();
+            logger.info("Context not recycled ({}), a fresh one will be created", unsafe);
+            return false;
+        }
+        try {
+            clearStorage(context);
+            context.clearCookies();
+            context.clearPermissions();
+            context.grantPermissions(List.of("geolocation"));
+            context.setOffline(false);
+            context.setExtraHTTPHeaders(Map.of());
+            RouteRegistry.reset(context);
+            recycled.increment();
+            logger.debug("Context recycled");
+            return true;
+        } catch (PlaywrightException e) {
+            recreated.increment();
+            logger.warn("Context reset failed, a fresh one will be created: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public static long getRecycledCount() {
+        return recycled.sum();
+    }
+
+    public static long getRecreatedCount() {
+        return recreated.sum();
+    }
+
+    public static void report() {
+        if (ENABLED) {
+            logger.info("Context recycling: {} recycled, {} recreated", recycled.sum(), recreated.sum());
+        }
+    }
+
+    private static String unsafeState(BrowserContext context) {
+        if (context.browser() != null && !context.browser().isConnected()) {
+            return "browser disconnected";
+        }
+        int openPages = context.pages().size();
+        if (openPages > 0) {
+            return openPages + " popup(s) or extra tab(s) still open";
+        }
+        return null;
+    }
+
+    /**
+     * Visit every origin on a scratch page whose requests are fulfilled locally and clear its storage there
+     */
+    private static void clearStorage(BrowserContext context) {
+        Set<String> origins = visitedOrigins.get(context);
+        if (origins == null || origins.isEmpty()) {
+            return;
+        }
+        List<String> toClear = new ArrayList<>(origins);
+        Page scratch = context.newPage();
+        try {
+            scratch.route("**/*", route -> route.fulfill(new Route.FulfillOptions()
+                    .setStatus(200)
+                    .setContentType("text/html")
+                    .setBody(BLANK_HTML)));
+            for (String origin : toClear) {
+                scratch.navigate(origin + "/");
+                scratch.evaluate(CLEAR_STORAGE);
+            }
+        } finally {
+            scratch.close();
+            origins.clear();
+        }
+        logger.debug("Storage cleared for {} origin(s)", toClear.size());
+    }
+
+    private static String origin(String url) {
+        if (url == null || !(url.startsWith("http://") || url.startsWith("https://"))) {
+            return null;
+        }
+        try {
+            URI uri = URI.create(url);
+            return uri.getScheme() + "://" + uri.getRawAuthority();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.enterprise.automation.browser;
+
+import com.microsoft.playwright.impl.driver.Driver;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Only access to Playwright's internal driver API (com.microsoft.playwright.impl.driver), verified with
+ * Playwright 1.40.0: it is not part of the public API and may change with any upgrade, so re-check
+ * this class when bumping playwright.version
+ */
+final class DriverProcesses {
+
+    private DriverProcesses() {}
+
+    /**
+     * Process builder running the bundled Playwright CLI with the given arguments, e.g. "run-server"
+     * Installs the driver on first use; browsers are not downloaded
+     */
+    static ProcessBuilder cli(List<String> args) {
+        ProcessBuilder builder = Driver.ensureDriverInstalled(Collections.emptyMap(), false).createProcessBuilder();
+        builder.command().addAll(args);
+        return builder;
+    }
+}
@@ -0,0 +1,98 @@
+package com.enterprise.automation.browser;
+
+import com.microsoft.playwright.PlaywrightException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Long-running Playwright browser server started from the bundled driver ("playwright run-server", see DriverProcesses)
+ * Stand-in for dedicated browser nodes: clients connect through BrowserType.connect() over WebSocket
+ */
+public class LocalBrowserServer implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(LocalBrowserServer.class);
+    private static final String LISTENING_PREFIX = "Listening on ";
+
+    private final Process process;
+    private final String wsEndpoint;
+
+    private LocalBrowserServer(Process process, String wsEndpoint) {
+        this.process = process;
+        this.wsEndpoint = wsEndpoint;
+    }
+
+    /**
+     * Start a browser server; port 0 picks a free port
+     */
+    public static LocalBrowserServer start(int port) {
+        ProcessBuilder builder = DriverProcesses.cli(List.of("run-server", "--port", String.valueOf(port)));
+        builder.redirectErrorStream(true);
+        try {
+            Process process = builder.start();
+            BufferedReader output = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+            String line;
+            while ((line = output.readLine()) != null) {
+                if (line.startsWith(LISTENING_PREFIX)) {
+                    String endpoint = line.substring(LISTENING_PREFIX.length()).trim();
+                    drain(output);
+                    logger.info("Browser server started: {}", endpoint);
+                    return new LocalBrowserServer(process, endpoint);
+                }
+                logger.debug("Browser server: {}", line);
+            }
+            throw new PlaywrightException("Browser server exited before listening, exit code: " + process.waitFor());
+        } catch (IOException e) {
+            throw new PlaywrightException("Failed to start browser server", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PlaywrightException("Interrupted while starting browser server", e);
+        }
+    }
+
+    public String getWsEndpoint() {
+        return wsEndpoint;
+    }
+
+    public boolean isAlive() {
+        return process.isAlive();
+    }
+
+    @Override
+    public void close() {
+        process.descendants().forEach(ProcessHandle::destroy);
+        process.destroy();
+        logger.info("Browser server stopped: {}", wsEndpoint);
+    }
+
+    /**
+     * Keep consuming server output so the pipe never fills up and blocks the server
+     */
+    private static void drain(BufferedReader output) {
+        Thread.ofPlatform().daemon().name("browser-server-output").start(() -> {
+            try {
+                String line;
+                while ((line = output.readLine()) != null) {
+                    logger.debug("Browser server: {}", line);
+                }
+            } catch (IOException e) {
+                logger.debug("Browser server output closed");
+            }
+        });
+    }
+
+    /**
+     * Run a standalone browser server, e.g. on a dedicated browser node
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 3000;
+        LocalBrowserServer server = start(port);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+        server.process.waitFor();
+    }
+}
@@ -1,15 +1,27 @@
 package com.enterprise.automation.browser;
 
 import com.enterprise.automation.config.Configuration;
+import com.enterprise.automation.health.EnvironmentCircuitBreaker;
+import com.enterprise.automation.metrics.Metrics;
+import com.enterprise.automation.util.ArtifactStore;
 import com.microsoft.playwright.*;
+import com.microsoft.playwright.options.ScreenshotType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.stream.Stream;
 
 /**
- * Singleton PlaywrightFactory for thread-safe browser and context management
+ * PlaywrightFactory for thread-safe browser and context management
+ * Each worker thread owns its own Playwright instance and driver connection, as Playwright objects are not thread-safe
  * Supports multiple browsers (Chromium, Firefox, WebKit) with context isolation
  */
 public class PlaywrightFactory {
@@ -17,35 +29,165 @@ public class PlaywrightFactory {
     private static final ThreadLocal<Browser> browserThreadLocal = new ThreadLocal<>();
     private static final ThreadLocal<BrowserContext> contextThreadLocal = new ThreadLocal<>();
     private static final ThreadLocal<Page> pageThreadLocal = new ThreadLocal<>();
-    private static Playwright playwright;
-    private static final Object LOCK = new Object();
+    private static final ThreadLocal<Playwright> playwrightThreadLocal = new ThreadLocal<>();
+    private static final Map<Playwright, String> playwrightOwners = new ConcurrentHashMap<>();
+    private static final Deque<Playwright> idlePlaywrights = new ConcurrentLinkedDeque<>();
+    // Per-thread objects visible to other threads, e.g. to the TestWatchdog of a hung test
+    private static final Map<Thread, Playwright> threadPlaywrights = new ConcurrentHashMap<>();
+    private static final Map<Thread, Page> threadPages = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Path> videoDirThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<String> videoNameThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<ScreencastBuffer> screencastThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> retryAttemptThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> tracingThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<String> storageStateThreadLocal = new ThreadLocal<>();
 
     private PlaywrightFactory() {}
 
     /**
-     * Initialize Playwright instance (singleton)
+     * Initialize Playwright instance and driver connection for current thread
      */
-    public static synchronized void initPlaywright() {
+    public static void initPlaywright() {
+        getPlaywright();
+    }
+
+    /**
+     * Get or create the Playwright instance owned by current thread
+     * An idle instance handed back by the TeardownReaper is taken over before a new driver is started
+     */
+    public static Playwright getPlaywright() {
+        Playwright playwright = playwrightThreadLocal.get();
+        // An instance missing from the owner map was closed by closePlaywright() at the end of a previous suite
+        if (playwright == null || !playwrightOwners.containsKey(playwright)) {
+            playwright = idlePlaywrights.poll();
+            if (playwright == null) {
+                playwright = Playwright.create();
+                logger.info("Playwright instance created for thread: {}", Thread.currentThread().getName());
+            } else {
+                logger.debug("Idle Playwright instance taken over by thread: {}", Thread.currentThread().getName());
+            }
+            playwrightThreadLocal.set(playwright);
+            playwrightOwners.put(playwright, Thread.currentThread().getName());
+            threadPlaywrights.put(Thread.currentThread(), playwright);
+        }
+        return playwright;
+    }
+
+    /**
+     * Make an instance whose browser the reaper closed available to the next worker that needs one
+     */
+    static void releasePlaywright(Playwright playwright) {
+        if (playwrightOwners.replace(playwright, "idle") != null) {
+            idlePlaywrights.push(playwright);
+        }
+    }
+
+    /**
+     * Drop an instance whose teardown failed or was killed
+     */
+    static void discardPlaywright(Playwright playwright) {
+        playwrightOwners.remove(playwright);
+        try {
+            playwright.close();
+        } catch (PlaywrightException e) {
+            logger.debug("Discarded Playwright instance did not close cleanly: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Driver process of current thread's Playwright instance; its descendants are the local browser processes
+     * Returns null when no instance exists or the process is not accessible
+     */
+    public static ProcessHandle getDriverProcess() {
+        return getDriverProcess(playwrightThreadLocal.get());
+    }
+
+    /**
+     * Forcibly kill the driver and browser processes of the Playwright instance owned by a thread
+     * Any Playwright call blocked on that thread fails right away; the instance is unusable afterwards
+     * @return false when the thread owns no instance or its processes are not accessible
+     */
+    public static boolean killPlaywrightOf(Thread owner) {
+        Playwright playwright = threadPlaywrights.get(owner);
+        return playwright != null && killProcesses(playwright) != null;
+    }
+
+    static ProcessHandle killProcesses(Playwright playwright) {
+        ProcessHandle driver = getDriverProcess(playwright);
+        if (driver != null) {
+            driver.descendants().forEach(ProcessHandle::destroyForcibly);
+            driver.destroyForcibly();
+        }
+        return driver;
+    }
+
+    /**
+     * Forget current thread's Playwright objects without talking to the driver, e.g. after killPlaywrightOf()
+     */
+    public static void discardThreadPlaywright() {
+        Playwright playwright = playwrightThreadLocal.get();
+        Path videoDir = videoDirThreadLocal.get();
+        playwrightThreadLocal.remove();
+        browserThreadLocal.remove();
+        contextThreadLocal.remove();
+        pageThreadLocal.remove();
+        screencastThreadLocal.remove();
+        tracingThreadLocal.remove();
+        storageStateThreadLocal.remove();
+        videoDirThreadLocal.remove();
+        videoNameThreadLocal.remove();
+        threadPlaywrights.remove(Thread.currentThread());
+        threadPages.remove(Thread.currentThread());
+        finishVideo(videoDir, null, Thread.currentThread().getName());
+        if (playwright != null) {
+            discardPlaywright(playwright);
+            logger.info("Playwright instance discarded for thread: {}", Thread.currentThread().getName());
+        }
+    }
+
+    static ProcessHandle getDriverProcess(Playwright playwright) {
         if (playwright == null) {
-            playwright = Playwright.create();
-            logger.info("Playwright instance created");
+            return null;
         }
+        try {
+            // Playwright does not expose the driver process; read it from the implementation class
+            Field field = playwright.getClass().getDeclaredField("driverProcess");
+            field.setAccessible(true);
+            Process process = (Process) field.get(playwright);
+            return process != null ? process.toHandle() : null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.debug("Driver process not accessible: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Number of live Playwright instances (one per worker thread)
+     */
+    public static int getPlaywrightCount() {
+        return playwrightOwners.size();
     }
 
     /**
      * Get or create browser instance for current thread
      */
     public static Browser getBrowser() {
+        Browser current = browserThreadLocal.get();
+        if (current != null && !current.isConnected()) {
+            // Remote browser server dropped the connection: forget dependent objects and reconnect
+            logger.warn("Browser disconnected, reconnecting");
+            pageThreadLocal.remove();
+            threadPages.remove(Thread.currentThread());
+            contextThreadLocal.remove();
+            tracingThreadLocal.remove();
+            browserThreadLocal.remove();
+        }
         if (browserThreadLocal.get() == null) {
-            synchronized (LOCK) {
-                if (browserThreadLocal.get() == null) {
-                    initPlaywright();
-                    String browserType = Configuration.getInstance().getBrowser().toLowerCase();
-                    Browser browser = launchBrowser(browserType);
-                    browserThreadLocal.set(browser);
-                    logger.info("Browser launched: {}", browserType);
-                }
-            }
+            String browserType = Configuration.getInstance().getBrowser().toLowerCase();
+            Browser browser = launchBrowser(browserType);
+            Metrics.browserOpened(browser);
+            browserThreadLocal.set(browser);
+            logger.info("Browser launched: {}", browserType);
         }
         return browserThreadLocal.get();
     }
@@ -54,6 +196,17 @@ public class PlaywrightFactory {
      * Launch browser based on configuration
      */
     private static Browser launchBrowser(String browserType) {
+        return launchBrowser(getPlaywright(), browserType);
+    }
+
+    /**
+     * Launch browser on a given Playwright instance, or connect to a browser server in remote/server mode
+     * The caller's thread owns the result
+     */
+    static Browser launchBrowser(Playwright owner, String browserType) {
+        if (!"local".equals(Configuration.getInstance().getBrowserMode())) {
+            return BrowserServerPool.getInstance().connect(owner, browserType);
+        }
         BrowserType.LaunchOptions options = new BrowserType.LaunchOptions()
                 .setHeadless(Configuration.getInstance().isHeadless())
                 .setSlowMo(Configuration.getInstance().getSlowmo());
@@ -67,9 +220,9 @@ public class PlaywrightFactory {
         options.setArgs(args);
 
         return switch (browserType) {
-            case "firefox" -> playwright.firefox().launch(options);
-            case "webkit" -> playwright.webkit().launch(options);
-            default -> playwright.chromium().launch(options);
+            case "firefox" -> owner.firefox().launch(options);
+            case "webkit" -> owner.webkit().launch(options);
+            default -> owner.chromium().launch(options);
         };
     }
 
@@ -78,23 +231,19 @@ public class PlaywrightFactory {
      */
     public static BrowserContext getContext() {
         if (contextThreadLocal.get() == null) {
-            synchronized (LOCK) {
-                if (contextThreadLocal.get() == null) {
-                    Browser browser = getBrowser();
-                    BrowserContext context = createContext(browser);
-                    contextThreadLocal.set(context);
-                    logger.info("Browser context created");
-                }
-            }
+            Browser browser = getBrowser();
+            BrowserContext context = createContext(browser);
+            contextThreadLocal.set(context);
+            logger.info("Browser context created");
         }
         return contextThreadLocal.get();
     }
 
     /**
-     * Create browser context with enterprise configurations
+     * Context options derived from Configuration, shared by every context the framework creates
      */
-    private static BrowserContext createContext(Browser browser) {
-        Browser.NewContextOptions contextOptions = new Browser.NewContextOptions()
+    public static Browser.NewContextOptions newContextOptions() {
+        return new Browser.NewContextOptions()
                 .setViewportSize(
                         Configuration.getInstance().getViewportWidth(),
                         Configuration.getInstance().getViewportHeight()
@@ -105,33 +254,114 @@ public class PlaywrightFactory {
                 .setTimezoneId("America/New_York")
                 .setGeolocation(40.7128, -74.0060) // New York coordinates
                 .setPermissions(Arrays.asList("geolocation"));
+    }
 
-        BrowserContext context = browser.newContext(contextOptions);
+    /**
+     * Create browser context with enterprise configurations
+     */
+    private static BrowserContext createContext(Browser browser) {
+        Browser.NewContextOptions options = newContextOptions();
+        if (storageStateThreadLocal.get() != null) {
+            options.setStorageState(storageStateThreadLocal.get());
+        }
+        String videoMode = Configuration.getInstance().getVideoMode();
+        if ("on".equals(videoMode) || "retain_on_failure".equals(videoMode)) {
+            // Record into a private temp dir; closeContext keeps the video only when asked to
+            try {
+                Path videoDir = Files.createTempDirectory("playwright-video-");
+                options.setRecordVideoDir(videoDir);
+                videoDirThreadLocal.set(videoDir);
+            } catch (IOException e) {
+                logger.warn("Video recording disabled, temp dir not available: {}", e.getMessage());
+            }
+        }
+        BrowserContext context = browser.newContext(options);
+        Metrics.contextOpened(context);
 
-        // Setup trace recording
-        context.tracing().start(new Tracing.StartOptions()
-                .setScreenshots(true)
-                .setSnapshots(true)
-                .setSources(true));
+        // Abort images, fonts and third-party requests when fast mode is on
+        ResourceBlocker.install(context);
 
+        ContextRecycler.track(context);
         return context;
     }
 
+    /**
+     * Cookies and local storage (BrowserContext.storageState() JSON) for the next context of current thread,
+     * e.g. a shared logged-in session; cleared when that context is closed
+     */
+    public static void useStorageState(String storageState) {
+        storageStateThreadLocal.set(storageState);
+        if (pageThreadLocal.get() == null && contextThreadLocal.get() != null) {
+            // A recycled context waiting for its next test cannot take a storage state: start a fresh one
+            closeContext();
+            storageStateThreadLocal.set(storageState);
+        }
+    }
+
+    /**
+     * Mark whether the test running on current thread is a retry attempt
+     */
+    public static void setRetryAttempt(boolean retryAttempt) {
+        retryAttemptThreadLocal.set(retryAttempt);
+    }
+
+    /**
+     * Start trace recording for the test about to use the context; with trace=on_first_retry only retries pay for it
+     */
+    private static void startTracing(BrowserContext context) {
+        if (!Boolean.TRUE.equals(tracingThreadLocal.get()) && isTracingEnabled()) {
+            context.tracing().start(new Tracing.StartOptions()
+                    .setScreenshots(true)
+                    .setSnapshots(true)
+                    .setSources(true));
+            tracingThreadLocal.set(true);
+        }
+    }
+
+    private static boolean isTracingEnabled() {
+        return switch (Configuration.getInstance().getTraceMode()) {
+            case "off" -> false;
+            case "on_first_retry" -> Boolean.TRUE.equals(retryAttemptThreadLocal.get());
+            default -> true;
+        };
+    }
+
     /**
      * Get or create page for current thread
      */
     public static Page getPage() {
         if (pageThreadLocal.get() == null) {
             BrowserContext context = getContext();
+            startTracing(context);
             Page page = context.newPage();
+            Metrics.pageOpened(page);
             page.setDefaultTimeout(Configuration.getInstance().getTimeout());
             page.setDefaultNavigationTimeout(Configuration.getInstance().getTimeout());
+            if ("screencast".equals(Configuration.getInstance().getVideoMode())) {
+                startScreencast(page);
+            }
             pageThreadLocal.set(page);
+            threadPages.put(Thread.currentThread(), page);
             logger.info("Page created and configured");
         }
         return pageThreadLocal.get();
     }
 
+    /**
+     * Page currently used by another thread, null if it has none
+     */
+    public static Page getPageOf(Thread owner) {
+        return threadPages.get(owner);
+    }
+
+    /**
+     * Get current thread's page without creating one, null if none is open
+     */
+    public static Page getCurrentPage() {
+        Page page = pageThreadLocal.get();
+        return page != null && !page.isClosed() ? page : null;
+    }
+
     /**
      * Navigate to URL with retry logic
      */
@@ -141,30 +371,125 @@ public class PlaywrightFactory {
             page.navigate(url);
             logger.info("Navigated to: {}", url);
         } catch (PlaywrightException e) {
+            // Retrying cannot help when the environment is unreachable
+            if (EnvironmentCircuitBreaker.isConnectionFailure(e)) {
+                throw e;
+            }
             logger.warn("Navigation failed, retrying: {}", url);
             page.navigate(url);
         }
     }
 
     /**
-     * Take screenshot and save to allure report
+     * Take screenshot into the artifact store as target/screenshots/<name>.png (or .jpg)
      */
     public static void takeScreenshot(String name) {
         Page page = pageThreadLocal.get();
         if (page != null) {
-            String path = String.format("target/screenshots/%s.png", name);
-            page.screenshot(new Page.ScreenshotOptions().setPath(Paths.get(path)));
+            Page.ScreenshotOptions options = new Page.ScreenshotOptions();
+            if (isJpegScreenshot()) {
+                options.setType(ScreenshotType.JPEG).setQuality(Configuration.getInstance().getScreenshotQuality());
+            }
+            Path path = ArtifactStore.store("screenshots/" + name + getScreenshotExtension(), page.screenshot(options));
             logger.info("Screenshot saved: {}", path);
         }
     }
 
+    public static String getScreenshotExtension() {
+        return isJpegScreenshot() ? ".jpg" : ".png";
+    }
+
+    public static String getScreenshotMimeType() {
+        return isJpegScreenshot() ? "image/jpeg" : "image/png";
+    }
+
+    private static boolean isJpegScreenshot() {
+        String format = Configuration.getInstance().getScreenshotFormat();
+        return "jpeg".equals(format) || "jpg".equals(format);
+    }
+
     /**
-     * Record video for current context
+     * Start buffering the current page's screencast when the context does not record video already
+     * Recorded video (video=on/retain_on_failure) can only be enabled when the context is created
      */
     public static void startVideoRecording() {
-        BrowserContext context = getContext();
-        // Video is enabled via context options
-        logger.info("Video recording enabled for context");
+        Page page = getPage();
+        if (videoDirThreadLocal.get() != null || screencastThreadLocal.get() != null) {
+            logger.info("Video recording already active for context");
+            return;
+        }
+        startScreencast(page);
+    }
+
+    private static void startScreencast(Page page) {
+        if (!"chromium".equals(Configuration.getInstance().getBrowser().toLowerCase())) {
+            logger.warn("Screencast buffer requires Chromium, video not recorded");
+            return;
+        }
+        screencastThreadLocal.set(ScreencastBuffer.start(page, Configuration.getInstance().getVideoBufferSeconds()));
+    }
+
+    /**
+     * Keep the video of the current test as target/videos/<name>.gif (screencast) or .webm (recorded)
+     * Call before closeAll(); recorded video is finalized when the context closes
+     */
+    public static void saveVideo(String name) {
+        ScreencastBuffer screencast = screencastThreadLocal.get();
+        if (screencast != null && screencast.getFrameCount() > 0) {
+            try {
+                Path path = ArtifactStore.store("videos/" + name + ".gif", screencast.toGif());
+                logger.info("Screencast saved: {} ({} frames)", path, screencast.getFrameCount());
+            } catch (IOException e) {
+                logger.warn("Failed to encode screencast: {}", e.getMessage());
+            }
+        }
+        if (videoDirThreadLocal.get() != null) {
+            videoNameThreadLocal.set(name);
+        }
+    }
+
+    public static String getVideoExtension() {
+        return "screencast".equals(Configuration.getInstance().getVideoMode()) ? ".gif" : ".webm";
+    }
+
+    public static String getVideoMimeType() {
+        return "screencast".equals(Configuration.getInstance().getVideoMode()) ? "image/gif" : "video/webm";
+    }
+
+    private static void finishVideo() {
+        Path videoDir = videoDirThreadLocal.get();
+        String name = videoNameThreadLocal.get();
+        videoDirThreadLocal.remove();
+        videoNameThreadLocal.remove();
+        finishVideo(videoDir, name, Thread.currentThread().getName());
+    }
+
+    /**
+     * Move recorded videos of the closed context into the artifact store when requested, then delete the temp dir
+     */
+    static void finishVideo(Path videoDir, String name, String owner) {
+        if (videoDir == null) {
+            return;
+        }
+        if (name == null && "on".equals(Configuration.getInstance().getVideoMode())) {
+            name = "video-" + owner + "-" + System.currentTimeMillis();
+        }
+        try (Stream<Path> files = Files.list(videoDir)) {
+            List<Path> videos = files.filter(file -> file.toString().endsWith(".webm")).sorted().toList();
+            for (int i = 0; name != null && i < videos.size(); i++) {
+                String suffix = i == 0 ? "" : "-" + (i + 1);
+                logger.info("Video saved: {}", ArtifactStore.store("videos/" + name + suffix + ".webm", videos.get(i)));
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to save video: {}", e.getMessage());
+        }
+        try (Stream<Path> files = Files.walk(videoDir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to delete video temp dir {}: {}", videoDir, e.getMessage());
+        }
     }
 
     /**
@@ -172,11 +497,18 @@ public class PlaywrightFactory {
      */
     public static void saveTrace(String name) {
         BrowserContext context = contextThreadLocal.get();
-        if (context != null) {
-            String path = String.format("target/traces/%s.zip", name);
-            context.tracing().stop(new Tracing.StopOptions()
-                    .setPath(Paths.get(path)));
-            logger.info("Trace saved: {}", path);
+        if (context != null && Boolean.TRUE.equals(tracingThreadLocal.get())) {
+            tracingThreadLocal.remove();
+            String path = String.format("traces/%s.zip", name);
+            try {
+                // Record into a fresh file: writing over target/traces would rewrite a stored blob in place
+                Path trace = ArtifactStore.newTempFile();
+                context.tracing().stop(new Tracing.StopOptions().setPath(trace));
+                logger.info("Trace saved: {}", ArtifactStore.store(path, trace));
+            } catch (IOException e) {
+                context.tracing().stop();
+                logger.warn("Failed to save trace {}: {}", path, e.getMessage());
+            }
         }
     }
 
@@ -185,6 +517,12 @@ public class PlaywrightFactory {
      */
     public static void closePage() {
         Page page = pageThreadLocal.get();
+        ScreencastBuffer screencast = screencastThreadLocal.get();
+        if (screencast != null) {
+            screencastThreadLocal.remove();
+            screencast.stop();
+        }
+        threadPages.remove(Thread.currentThread());
         if (page != null && !page.isClosed()) {
             page.close();
             pageThreadLocal.remove();
@@ -200,8 +538,11 @@ public class PlaywrightFactory {
         if (context != null) {
             context.close();
             contextThreadLocal.remove();
+            tracingThreadLocal.remove();
+            storageStateThreadLocal.remove();
             logger.info("Context closed");
         }
+        finishVideo();
     }
 
     /**
@@ -216,6 +557,62 @@ public class PlaywrightFactory {
         }
     }
 
+    /**
+     * End-of-test cleanup: with context.recycling the browser and context stay open and are reset for the
+     * next test when that is safe; with teardown.async they are closed by the TeardownReaper, otherwise
+     * everything is closed as by closeAll()
+     */
+    public static void releaseAll() {
+        BrowserContext context = contextThreadLocal.get();
+        if (context != null && ContextRecycler.isEnabled()) {
+            closePage();
+            // An unsaved trace belongs to the finished test
+            if (Boolean.TRUE.equals(tracingThreadLocal.get())) {
+                context.tracing().stop();
+                tracingThreadLocal.remove();
+            }
+            if (ContextRecycler.reset(context)) {
+                storageStateThreadLocal.remove();
+                return;
+            }
+        }
+        // A video saved for a failed test must be finalized before the listener attaches it
+        if (TeardownReaper.isEnabled() && playwrightThreadLocal.get() != null && videoNameThreadLocal.get() == null) {
+            TeardownReaper.submit(retire());
+            return;
+        }
+        closeAll();
+    }
+
+    /**
+     * Hand current thread's Playwright instance and its objects over; the thread gets another instance on next use
+     */
+    private static TeardownReaper.Retired retire() {
+        Playwright playwright = playwrightThreadLocal.get();
+        TeardownReaper.Retired retired = new TeardownReaper.Retired(
+                playwright,
+                browserThreadLocal.get(),
+                contextThreadLocal.get(),
+                pageThreadLocal.get(),
+                screencastThreadLocal.get(),
+                Boolean.TRUE.equals(tracingThreadLocal.get()),
+                videoDirThreadLocal.get(),
+                Thread.currentThread().getName());
+        playwrightOwners.replace(playwright, "teardown-reaper");
+        threadPlaywrights.remove(Thread.currentThread());
+        threadPages.remove(Thread.currentThread());
+        playwrightThreadLocal.remove();
+        browserThreadLocal.remove();
+        contextThreadLocal.remove();
+        pageThreadLocal.remove();
+        screencastThreadLocal.remove();
+        tracingThreadLocal.remove();
+        storageStateThreadLocal.remove();
+        videoDirThreadLocal.remove();
+        videoNameThreadLocal.remove();
+        return retired;
+    }
+
     /**
      * Complete cleanup - call in test teardown
      */
@@ -226,13 +623,39 @@ public class PlaywrightFactory {
     }
 
     /**
-     * Close Playwright instance (call once at JVM shutdown)
+     * Close the Playwright instance owned by current thread
      */
-    public static synchronized void closePlaywright() {
+    public static void closeThreadPlaywright() {
+        Playwright playwright = playwrightThreadLocal.get();
         if (playwright != null) {
+            closeAll();
             playwright.close();
-            playwright = null;
-            logger.info("Playwright instance closed");
+            playwrightThreadLocal.remove();
+            playwrightOwners.remove(playwright);
+            threadPlaywrights.remove(Thread.currentThread());
+            logger.info("Playwright instance closed for thread: {}", Thread.currentThread().getName());
         }
     }
+
+    /**
+     * Close every Playwright instance (call once at suite end, when worker threads are idle)
+     */
+    public static void closePlaywright() {
+        ContextRecycler.report();
+        closeThreadPlaywright();
+        TeardownReaper.drain();
+        TeardownReaper.report();
+        idlePlaywrights.clear();
+        threadPlaywrights.clear();
+        threadPages.clear();
+        playwrightOwners.forEach((playwright, owner) -> {
+            try {
+                playwright.close();
+                logger.info("Playwright instance closed for thread: {}", owner);
+            } catch (PlaywrightException e) {
+                logger.warn("Failed to close Playwright instance of thread {}: {}", owner, e.getMessage());
+            }
+        });
+        playwrightOwners.clear();
+    }
 }
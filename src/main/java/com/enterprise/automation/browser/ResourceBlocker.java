@@ -0,0 +1,155 @@
+package com.enterprise.automation.browser;
+
+import com.enterprise.automation.config.Configuration;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Route;
+import com.microsoft.playwright.options.Sizes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Resource-blocking fast mode applied at the context level
+ * block: aborts requests by resource type and domain pattern
+ * audit: lets every request through and measures what block mode would save
+ */
+public class ResourceBlocker {
+    private static final Logger logger = LoggerFactory.getLogger(ResourceBlocker.class);
+    private static final ThreadLocal<Stats> testStats = ThreadLocal.withInitial(Stats::new);
+    private static final LongAdder totalRequests = new LongAdder();
+    private static final LongAdder totalBytes = new LongAdder();
+
+    private final Set<String> resourceTypes;
+    private final List<Pattern> domainPatterns;
+
+    private ResourceBlocker(Collection<String> resourceTypes, Collection<String> domains) {
+        this.resourceTypes = new HashSet<>(resourceTypes);
+        this.domainPatterns = domains.stream()
+                .map(RouteRegistry::globToPattern)
+                .toList();
+    }
+
+    /**
+     * Install the configured mode on a freshly created context
+     */
+    public static void install(BrowserContext context) {
+        Configuration config = Configuration.getInstance();
+        String mode = config.getBlockMode();
+        if ("off".equals(mode)) {
+            return;
+        }
+        ResourceBlocker blocker = new ResourceBlocker(config.getBlockedResourceTypes(), config.getBlockedDomains());
+        if ("audit".equals(mode)) {
+            context.onRequestFinished(blocker::audit);
+        } else {
+            context.route("**/*", blocker::handle);
+        }
+        logger.debug("Resource blocking installed in {} mode", mode);
+    }
+
+    /**
+     * Reset per-test statistics for the current thread
+     */
+    public static void resetStats() {
+        testStats.remove();
+    }
+
+    /**
+     * Statistics of the test running on the current thread
+     */
+    public static Stats getStats() {
+        return testStats.get();
+    }
+
+    public static long getTotalRequestsSaved() {
+        return totalRequests.sum();
+    }
+
+    public static long getTotalBytesSaved() {
+        return totalBytes.sum();
+    }
+
+    boolean shouldBlock(Request request) {
+        if (resourceTypes.contains(request.resourceType())) {
+            return true;
+        }
+        if (domainPatterns.isEmpty()) {
+            return false;
+        }
+        String host = hostOf(request.url());
+        for (Pattern pattern : domainPatterns) {
+            if (pattern.matcher(host).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void handle(Route route) {
+        Request request = route.request();
+        if (shouldBlock(request)) {
+            testStats.get().record(request.resourceType(), 0);
+            totalRequests.increment();
+            route.abort("blockedbyclient");
+        } else {
+            route.fallback();
+        }
+    }
+
+    private void audit(Request request) {
+        if (shouldBlock(request)) {
+            Sizes sizes = request.sizes();
+            long bytes = Math.max(0, sizes.responseHeadersSize) + Math.max(0, sizes.responseBodySize);
+            testStats.get().record(request.resourceType(), bytes);
+            totalRequests.increment();
+            totalBytes.add(bytes);
+        }
+    }
+
+    private static String hostOf(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            return host == null ? "" : host;
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    /**
+     * Requests and bytes saved, grouped by resource type
+     * Bytes are only known in audit mode since blocked requests are never downloaded
+     */
+    public static class Stats {
+        private final Map<String, long[]> byType = new TreeMap<>();
+        private long requests;
+        private long bytes;
+
+        void record(String resourceType, long size) {
+            long[] counters = byType.computeIfAbsent(resourceType, type -> new long[2]);
+            counters[0]++;
+            counters[1] += size;
+            requests++;
+            bytes += size;
+        }
+
+        public long getRequests() {
+            return requests;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+
+        @Override
+        public String toString() {
+            StringJoiner joiner = new StringJoiner(", ", requests + " requests / " + bytes + " bytes [", "]");
+            byType.forEach((type, counters) -> joiner.add(type + "=" + counters[0] + "/" + counters[1] + "B"));
+            return joiner.toString();
+        }
+    }
+}
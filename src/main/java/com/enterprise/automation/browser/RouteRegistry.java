@@ -0,0 +1,310 @@
+package com.enterprise.automation.browser;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Route;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Context-level routing registry for network interception and API mocking
+ * Registers a single route handler per BrowserContext and dispatches requests to rules
+ * through one compiled URL matcher, so routes apply to every page of the context
+ */
+public class RouteRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(RouteRegistry.class);
+    private static final Map<BrowserContext, RouteRegistry> registries = new ConcurrentHashMap<>();
+
+    private final BrowserContext context;
+    private final List<RouteRule> rules = new ArrayList<>();
+    private final Consumer<Route> handler = this::handle;
+    private Pattern combinedPattern;
+
+    private RouteRegistry(BrowserContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Get or create the registry bound to a context
+     */
+    public static RouteRegistry forContext(BrowserContext context) {
+        return registries.computeIfAbsent(context, ctx -> {
+            RouteRegistry registry = new RouteRegistry(ctx);
+            ctx.onClose(closed -> registries.remove(closed));
+            return registry;
+        });
+    }
+
+    /**
+     * Drop the rules of a context, if it has a registry, e.g. before the context serves another test
+     */
+    public static void reset(BrowserContext context) {
+        RouteRegistry registry = registries.get(context);
+        if (registry != null) {
+            registry.clear();
+        }
+    }
+
+    /**
+     * Mock a URL pattern with a JSON body and status code
+     */
+    public RouteRule mock(String urlPattern, String body, int status) {
+        return add(new RouteRule(urlPattern, RouteAction.FULFILL).withBody(body).withStatus(status));
+    }
+
+    /**
+     * Abort all requests matching a URL pattern
+     */
+    public RouteRule abort(String urlPattern) {
+        return add(new RouteRule(urlPattern, RouteAction.ABORT));
+    }
+
+    /**
+     * Register a rule; the most recently added matching rule wins
+     */
+    public synchronized RouteRule add(RouteRule rule) {
+        rules.add(rule);
+        recompile();
+        logger.info("Route registered: {} -> {}", rule.getUrlPattern(), rule.getAction());
+        return rule;
+    }
+
+    /**
+     * Remove a single rule
+     */
+    public synchronized boolean remove(RouteRule rule) {
+        boolean removed = rules.remove(rule);
+        if (removed) {
+            recompile();
+            logger.info("Route removed: {}", rule.getUrlPattern());
+        }
+        return removed;
+    }
+
+    /**
+     * Remove all rules registered for a URL pattern
+     */
+    public synchronized int remove(String urlPattern) {
+        int before = rules.size();
+        rules.removeIf(rule -> rule.getUrlPattern().equals(urlPattern));
+        int removed = before - rules.size();
+        if (removed > 0) {
+            recompile();
+            logger.info("Removed {} route(s) for: {}", removed, urlPattern);
+        }
+        return removed;
+    }
+
+    /**
+     * Remove every rule and detach the context handler
+     */
+    public synchronized void clear() {
+        rules.clear();
+        recompile();
+    }
+
+    /**
+     * Snapshot of registered rules
+     */
+    public synchronized List<RouteRule> getRules() {
+        return new ArrayList<>(rules);
+    }
+
+    /**
+     * Hit count per URL pattern, useful to see which mocks actually fired
+     */
+    public synchronized Map<String, Integer> getHitCounts() {
+        Map<String, Integer> hits = new LinkedHashMap<>();
+        for (RouteRule rule : rules) {
+            hits.merge(rule.getUrlPattern(), rule.getHitCount(), Integer::sum);
+        }
+        return hits;
+    }
+
+    private void handle(Route route) {
+        String url = route.request().url();
+        RouteRule rule = findRule(url);
+        if (rule == null) {
+            route.fallback();
+            return;
+        }
+        rule.apply(route);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Route {} handled {} ({} hits)", rule.getUrlPattern(), url, rule.getHitCount());
+        }
+    }
+
+    private synchronized RouteRule findRule(String url) {
+        for (int i = rules.size() - 1; i >= 0; i--) {
+            RouteRule rule = rules.get(i);
+            if (rule.matches(url)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Rebuild the combined matcher and swap the single context route
+     * The regex is evaluated by the Playwright driver, so unmatched requests never reach Java. The new route is
+     * registered before the old one is removed, so no request slips past the mocks while the rules change
+     */
+    private void recompile() {
+        Pattern previous = combinedPattern;
+        Pattern next = null;
+        if (!rules.isEmpty()) {
+            StringJoiner alternatives = new StringJoiner("|");
+            for (RouteRule rule : rules) {
+                alternatives.add("(?:" + rule.getPattern().pattern() + ")");
+            }
+            next = Pattern.compile(alternatives.toString());
+        }
+        // Routes are matched by regex source: an unchanged matcher keeps its route, the handler reads the new rules
+        if (previous != null && next != null && previous.pattern().equals(next.pattern())) {
+            return;
+        }
+        if (next != null) {
+            context.route(next, handler);
+        }
+        combinedPattern = next;
+        if (previous != null) {
+            context.unroute(previous, handler);
+        }
+    }
+
+    /**
+     * Convert a Playwright-style glob ("**", "*", "?", "{a,b}") to an anchored regex
+     */
+    static Pattern globToPattern(String glob) {
+        StringBuilder regex = new StringBuilder("^");
+        boolean inGroup = false;
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            switch (c) {
+                case '*' -> {
+                    boolean doubleStar = i + 1 < glob.length() && glob.charAt(i + 1) == '*';
+                    if (doubleStar) {
+                        regex.append(".*");
+                        i++;
+                    } else {
+                        regex.append("[^/]*");
+                    }
+                }
+                case '?' -> regex.append('.');
+                case '{' -> {
+                    regex.append("(?:");
+                    inGroup = true;
+                }
+                case '}' -> {
+                    regex.append(')');
+                    inGroup = false;
+                }
+                case ',' -> regex.append(inGroup ? "|" : ",");
+                default -> {
+                    if ("\\.[]()+^$|".indexOf(c) >= 0) {
+                        regex.append('\\');
+                    }
+                    regex.append(c);
+                }
+            }
+        }
+        return Pattern.compile(regex.append('$').toString());
+    }
+
+    public enum RouteAction {
+        FULFILL, ABORT, CONTINUE
+    }
+
+    /**
+     * Single interception rule with mock payload, optional delay and hit counter
+     */
+    public static class RouteRule {
+        private final String urlPattern;
+        private final Pattern pattern;
+        private final RouteAction action;
+        private final AtomicInteger hits = new AtomicInteger();
+        private int status = 200;
+        private String contentType = "application/json";
+        private String body = "";
+        private long delayMs;
+
+        public RouteRule(String urlPattern, RouteAction action) {
+            this.urlPattern = urlPattern;
+            this.pattern = globToPattern(urlPattern);
+            this.action = action;
+        }
+
+        public RouteRule(Pattern urlRegex, RouteAction action) {
+            this.urlPattern = urlRegex.pattern();
+            this.pattern = urlRegex;
+            this.action = action;
+        }
+
+        public RouteRule withStatus(int status) {
+            this.status = status;
+            return this;
+        }
+
+        public RouteRule withContentType(String contentType) {
+            this.contentType = contentType;
+            return this;
+        }
+
+        public RouteRule withBody(String body) {
+            this.body = body;
+            return this;
+        }
+
+        /**
+         * Delay the response; the route handler blocks the owning thread for this long
+         */
+        public RouteRule withDelay(long delayMs) {
+            this.delayMs = delayMs;
+            return this;
+        }
+
+        boolean matches(String url) {
+            return pattern.matcher(url).find();
+        }
+
+        void apply(Route route) {
+            hits.incrementAndGet();
+            if (delayMs > 0) {
+                try {
+                    Thread.sleep(delayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            switch (action) {
+                case ABORT -> route.abort();
+                case CONTINUE -> route.resume();
+                default -> route.fulfill(new Route.FulfillOptions()
+                        .setStatus(status)
+                        .setContentType(contentType)
+                        .setBody(body));
+            }
+        }
+
+        public String getUrlPattern() {
+            return urlPattern;
+        }
+
+        public Pattern getPattern() {
+            return pattern;
+        }
+
+        public RouteAction getAction() {
+            return action;
+        }
+
+        public int getHitCount() {
+            return hits.get();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.enterprise.automation.browser;
+
+import com.enterprise.automation.config.Configuration;
+import com.microsoft.playwright.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Concurrent multi-actor scenario runner
+ * Each actor (admin, user, ...) runs on its own virtual thread with its own Playwright, browser and context,
+ * so Playwright's one-thread-per-instance rule holds while actors interact through barriers and events
+ */
+public class Scenario {
+    private static final Logger logger = LoggerFactory.getLogger(Scenario.class);
+
+    private final String name;
+    private final Map<String, ActorBody> actors = new LinkedHashMap<>();
+    private final Map<String, CyclicBarrier> barriers = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Object>> events = new ConcurrentHashMap<>();
+    private final long timeoutMs = Configuration.getInstance().getTimeout();
+    private volatile Throwable abortCause;
+
+    private Scenario(String name) {
+        this.name = name;
+    }
+
+    public static Scenario create(String name) {
+        return new Scenario(name);
+    }
+
+    /**
+     * Register an actor driving its own named context
+     */
+    public Scenario actor(String actorName, ActorBody body) {
+        if (actors.putIfAbsent(actorName, body) != null) {
+            throw new IllegalArgumentException("Duplicate actor: " + actorName);
+        }
+        return this;
+    }
+
+    /**
+     * Run all actors concurrently and wait for them; rethrows the first failure with the others suppressed
+     */
+    public void run() {
+        Map<String, Thread> threads = new LinkedHashMap<>();
+        Map<String, Throwable> failures = new ConcurrentHashMap<>();
+
+        logger.info("Scenario '{}' started with actors: {}", name, actors.keySet());
+        actors.forEach((actorName, body) -> threads.put(actorName, Thread.ofVirtual()
+                .name("scenario-" + name + "-" + actorName)
+                .start(() -> runActor(actorName, body, failures))));
+
+        for (Map.Entry<String, Thread> entry : threads.entrySet()) {
+            try {
+                entry.getValue().join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                abort(e);
+                throw new IllegalStateException("Interrupted while waiting for actor: " + entry.getKey(), e);
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            Map.Entry<String, Throwable> first = failures.entrySet().stream()
+                    .filter(entry -> entry.getValue() == abortCause)
+                    .findFirst()
+                    .orElse(failures.entrySet().iterator().next());
+            AssertionError error = new AssertionError(
+                    "Scenario '" + name + "' failed in actor '" + first.getKey() + "': " + first.getValue().getMessage(),
+                    first.getValue());
+            failures.forEach((actorName, failure) -> {
+                if (failure != first.getValue()) {
+                    error.addSuppressed(failure);
+                }
+            });
+            throw error;
+        }
+        logger.info("Scenario '{}' completed", name);
+    }
+
+    private void runActor(String actorName, ActorBody body, Map<String, Throwable> failures) {
+        String browserType = Configuration.getInstance().getBrowser().toLowerCase();
+        try (Playwright playwright = Playwright.create()) {
+            Browser browser = PlaywrightFactory.launchBrowser(playwright, browserType);
+            BrowserContext context = browser.newContext(PlaywrightFactory.newContextOptions());
+            ResourceBlocker.install(context);
+            Page page = context.newPage();
+            page.setDefaultTimeout(timeoutMs);
+            page.setDefaultNavigationTimeout(timeoutMs);
+            logger.info("Actor '{}' ready", actorName);
+
+            body.run(new Actor(actorName, context, page));
+            logger.info("Actor '{}' finished", actorName);
+        } catch (Throwable t) {
+            failures.put(actorName, t);
+            abort(t);
+            logger.error("Actor '{}' failed: {}", actorName, t.getMessage());
+        }
+    }
+
+    /**
+     * Release every actor blocked on a barrier or event once one actor fails
+     */
+    private synchronized void abort(Throwable cause) {
+        if (abortCause != null) {
+            return;
+        }
+        abortCause = cause;
+        barriers.values().forEach(CyclicBarrier::reset);
+        events.values().forEach(event -> event.completeExceptionally(
+                new IllegalStateException("Scenario aborted: " + cause.getMessage(), cause)));
+    }
+
+    private CompletableFuture<Object> event(String eventName) {
+        CompletableFuture<Object> event = events.computeIfAbsent(eventName, key -> new CompletableFuture<>());
+        Throwable cause = abortCause;
+        if (cause != null) {
+            event.completeExceptionally(new IllegalStateException("Scenario aborted: " + cause.getMessage(), cause));
+        }
+        return event;
+    }
+
+    @FunctionalInterface
+    public interface ActorBody {
+        void run(Actor actor) throws Exception;
+    }
+
+    /**
+     * Handle given to each actor: its own context and page plus cross-actor synchronization
+     */
+    public class Actor {
+        private final String actorName;
+        private final BrowserContext context;
+        private final Page page;
+
+        Actor(String actorName, BrowserContext context, Page page) {
+            this.actorName = actorName;
+            this.context = context;
+            this.page = page;
+        }
+
+        public String name() {
+            return actorName;
+        }
+
+        public BrowserContext context() {
+            return context;
+        }
+
+        public Page page() {
+            return page;
+        }
+
+        /**
+         * Block until every actor reached the barrier with the same name
+         */
+        public void barrier(String barrierName) throws Exception {
+            CyclicBarrier barrier = barriers.computeIfAbsent(barrierName, key -> new CyclicBarrier(actors.size()));
+            if (abortCause != null) {
+                throw new IllegalStateException("Scenario aborted before barrier: " + barrierName, abortCause);
+            }
+            logger.debug("Actor '{}' waiting at barrier: {}", actorName, barrierName);
+            try {
+                barrier.await(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (BrokenBarrierException | TimeoutException e) {
+                throw new IllegalStateException("Barrier '" + barrierName + "' broken for actor: " + actorName,
+                        abortCause != null ? abortCause : e);
+            }
+        }
+
+        /**
+         * Publish an event for other actors
+         */
+        public void signal(String eventName) {
+            signal(eventName, Boolean.TRUE);
+        }
+
+        public void signal(String eventName, Object value) {
+            event(eventName).complete(value);
+            logger.debug("Actor '{}' signalled: {}", actorName, eventName);
+        }
+
+        /**
+         * Wait for an event published by another actor and return its value
+         */
+        public Object await(String eventName) throws Exception {
+            logger.debug("Actor '{}' awaiting: {}", actorName, eventName);
+            try {
+                return event(eventName).get(timeoutMs, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Event '" + eventName + "' failed for actor: " + actorName, e.getCause());
+            } catch (TimeoutException e) {
+                throw new IllegalStateException("Timed out waiting for event '" + eventName + "' in actor: " + actorName, e);
+            }
+        }
+    }
+}
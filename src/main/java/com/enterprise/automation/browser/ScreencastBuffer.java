@@ -0,0 +1,168 @@
+package com.enterprise.automation.browser;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Node;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageTypeSpecifier;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Deque;
+
+/**
+ * Keeps the last seconds of a Chromium page screencast in memory
+ * Frames arrive as JPEG through CDP Page.screencastFrame; older frames are evicted, so memory stays bounded
+ * Frames are only decoded and encoded (animated GIF) when a failure asks for them
+ */
+public class ScreencastBuffer {
+    private static final Logger logger = LoggerFactory.getLogger(ScreencastBuffer.class);
+    private static final int MAX_FRAMES = 600;
+    private static final int MAX_WIDTH = 800;
+    private static final int JPEG_QUALITY = 50;
+
+    private final CDPSession session;
+    private final long windowMillis;
+    private final Deque<Frame> frames = new ArrayDeque<>();
+
+    private ScreencastBuffer(CDPSession session, long windowMillis) {
+        this.session = session;
+        this.windowMillis = windowMillis;
+    }
+
+    /**
+     * Start buffering the screencast of a Chromium page, keeping the last given seconds
+     */
+    public static ScreencastBuffer start(Page page, int seconds) {
+        CDPSession session = page.context().newCDPSession(page);
+        ScreencastBuffer buffer = new ScreencastBuffer(session, seconds * 1000L);
+        session.on("Page.screencastFrame", buffer::onFrame);
+        JsonObject params = new JsonObject();
+        params.addProperty("format", "jpeg");
+        params.addProperty("quality", JPEG_QUALITY);
+        params.addProperty("maxWidth", MAX_WIDTH);
+        params.addProperty("maxHeight", MAX_WIDTH);
+        session.send("Page.startScreencast", params);
+        logger.debug("Screencast buffer started ({}s)", seconds);
+        return buffer;
+    }
+
+    private void onFrame(JsonObject event) {
+        long timestamp = (long) (event.getAsJsonObject("metadata").get("timestamp").getAsDouble() * 1000);
+        byte[] jpeg = Base64.getDecoder().decode(event.get("data").getAsString());
+        synchronized (frames) {
+            frames.addLast(new Frame(timestamp, jpeg));
+            while (frames.size() > MAX_FRAMES || timestamp - frames.peekFirst().timestamp > windowMillis) {
+                frames.removeFirst();
+            }
+        }
+        JsonObject ack = new JsonObject();
+        ack.addProperty("sessionId", event.get("sessionId").getAsInt());
+        try {
+            session.send("Page.screencastFrameAck", ack);
+        } catch (PlaywrightException e) {
+            logger.debug("Screencast frame not acknowledged: {}", e.getMessage());
+        }
+    }
+
+    public int getFrameCount() {
+        synchronized (frames) {
+            return frames.size();
+        }
+    }
+
+    /**
+     * Encode the buffered frames as an animated GIF, keeping their original timing
+     */
+    public byte[] toGif() throws IOException {
+        Frame[] snapshot;
+        synchronized (frames) {
+            snapshot = frames.toArray(new Frame[0]);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("gif").next();
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            writer.prepareWriteSequence(null);
+            for (int i = 0; i < snapshot.length; i++) {
+                BufferedImage image = ImageIO.read(new ByteArrayInputStream(snapshot[i].jpeg));
+                if (image == null) {
+                    continue;
+                }
+                long next = i + 1 < snapshot.length ? snapshot[i + 1].timestamp : snapshot[i].timestamp + 1000;
+                int delayCentis = (int) Math.max(2, Math.min(6000, (next - snapshot[i].timestamp) / 10));
+                writer.writeToSequence(new IIOImage(image, null, frameMetadata(writer, image, delayCentis, i == 0)), null);
+            }
+            writer.endWriteSequence();
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Stop the screencast and release the buffered frames
+     */
+    public void stop() {
+        synchronized (frames) {
+            frames.clear();
+        }
+        try {
+            session.send("Page.stopScreencast");
+            session.detach();
+        } catch (PlaywrightException e) {
+            logger.debug("Screencast already stopped: {}", e.getMessage());
+        }
+    }
+
+    private static IIOMetadata frameMetadata(ImageWriter writer, BufferedImage image, int delayCentis, boolean first)
+            throws IOException {
+        IIOMetadata metadata = writer.getDefaultImageMetadata(ImageTypeSpecifier.createFromRenderedImage(image), null);
+        String format = metadata.getNativeMetadataFormatName();
+        IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(format);
+
+        IIOMetadataNode control = child(root, "GraphicControlExtension");
+        control.setAttribute("disposalMethod", "none");
+        control.setAttribute("userInputFlag", "FALSE");
+        control.setAttribute("transparentColorFlag", "FALSE");
+        control.setAttribute("delayTime", String.valueOf(delayCentis));
+        control.setAttribute("transparentColorIndex", "0");
+
+        if (first) {
+            // Loop forever (NETSCAPE2.0 application extension)
+            IIOMetadataNode extension = new IIOMetadataNode("ApplicationExtension");
+            extension.setAttribute("applicationID", "NETSCAPE");
+            extension.setAttribute("authenticationCode", "2.0");
+            extension.setUserObject(new byte[] {1, 0, 0});
+            child(root, "ApplicationExtensions").appendChild(extension);
+        }
+        metadata.setFromTree(format, root);
+        return metadata;
+    }
+
+    private static IIOMetadataNode child(IIOMetadataNode root, String name) {
+        for (Node node = root.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node.getNodeName().equalsIgnoreCase(name)) {
+                return (IIOMetadataNode) node;
+            }
+        }
+        IIOMetadataNode node = new IIOMetadataNode(name);
+        root.appendChild(node);
+        return node;
+    }
+
+    private record Frame(long timestamp, byte[] jpeg) {}
+}
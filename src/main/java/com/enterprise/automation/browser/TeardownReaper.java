@@ -0,0 +1,187 @@
+package com.enterprise.automation.browser;
+
+import com.enterprise.automation.config.Configuration;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Background teardown of the browser objects a finished test used (teardown.async=true)
+ * A worker hands over its whole Playwright instance, so the objects stay confined to one thread at a time,
+ * and continues with an idle instance. The bounded queue blocks workers when reapers fall behind; a close
+ * that exceeds teardown.timeout.ms gets the driver and browser processes killed and the instance discarded
+ */
+public class TeardownReaper {
+    private static final Logger logger = LoggerFactory.getLogger(TeardownReaper.class);
+    private static final Configuration config = Configuration.getInstance();
+    private static final boolean ENABLED = config.isAsyncTeardownEnabled();
+    private static final BlockingQueue<Retired> queue = new ArrayBlockingQueue<>(Math.max(1, config.getTeardownQueueSize()));
+    private static final AtomicInteger pending = new AtomicInteger();
+    private static final Object drained = new Object();
+    private static final LongAdder reaped = new LongAdder();
+    private static final LongAdder forceKilled = new LongAdder();
+    private static final LongAdder backPressureWaits = new LongAdder();
+    private static ScheduledExecutorService killer;
+
+    private TeardownReaper() {}
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Queue retired objects for closing; blocks while the queue is full
+     */
+    static void submit(Retired retired) {
+        start();
+        pending.incrementAndGet();
+        if (queue.offer(retired)) {
+            return;
+        }
+        backPressureWaits.increment();
+        logger.info("Teardown queue full ({} pending), waiting for a reaper", queue.size());
+        try {
+            queue.put(retired);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reap(retired);
+        }
+    }
+
+    /**
+     * Wait until every queued teardown finished; each one is bounded by the hard timeout
+     */
+    public static void drain() {
+        synchronized (drained) {
+            while (pending.get() > 0) {
+                try {
+                    drained.wait(config.getTeardownTimeoutMs());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    public static int getQueueDepth() {
+        return pending.get();
+    }
+
+    public static long getForceKilledCount() {
+        return forceKilled.sum();
+    }
+
+    public static void report() {
+        if (ENABLED) {
+            logger.info("Async teardown: {} reaped, {} force-killed, {} back-pressure waits",
+                    reaped.sum(), forceKilled.sum(), backPressureWaits.sum());
+        }
+    }
+
+    private static synchronized void start() {
+        if (killer != null) {
+            return;
+        }
+        killer = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("teardown-killer").factory());
+        int threads = Math.max(1, config.getTeardownReaperThreads());
+        for (int i = 0; i < threads; i++) {
+            Thread.ofPlatform().daemon().name("teardown-reaper-" + i).start(TeardownReaper::run);
+        }
+        logger.info("Async teardown started with {} reaper(s), queue size {}", threads, queue.remainingCapacity());
+    }
+
+    private static void run() {
+        while (true) {
+            try {
+                reap(queue.take());
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private static void reap(Retired retired) {
+        AtomicBoolean killed = new AtomicBoolean();
+        ScheduledFuture<?> deadline = killer.schedule(() -> forceKill(retired, killed),
+                config.getTeardownTimeoutMs(), TimeUnit.MILLISECONDS);
+        boolean closed = false;
+        try {
+            retired.close();
+            closed = true;
+        } catch (RuntimeException e) {
+            logger.warn("Teardown of {}'s browser failed: {}", retired.owner(), e.getMessage());
+        } finally {
+            deadline.cancel(false);
+            if (closed && !killed.get()) {
+                PlaywrightFactory.releasePlaywright(retired.playwright());
+                reaped.increment();
+            } else {
+                PlaywrightFactory.discardPlaywright(retired.playwright());
+            }
+            if (pending.decrementAndGet() == 0) {
+                synchronized (drained) {
+                    drained.notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * Kill the browser and driver processes of a hung close; the blocked Playwright call then fails fast
+     */
+    private static void forceKill(Retired retired, AtomicBoolean killed) {
+        killed.set(true);
+        forceKilled.increment();
+        ProcessHandle driver = PlaywrightFactory.killProcesses(retired.playwright());
+        if (driver == null) {
+            logger.error("Teardown of {}'s browser exceeded {} ms and its processes are not accessible",
+                    retired.owner(), config.getTeardownTimeoutMs());
+            return;
+        }
+        logger.warn("Teardown of {}'s browser exceeded {} ms, killed driver {} and its browser processes",
+                retired.owner(), config.getTeardownTimeoutMs(), driver.pid());
+    }
+
+    /**
+     * Objects a worker released at the end of a test, owned by the reaper from now on
+     */
+    record Retired(Playwright playwright, Browser browser, BrowserContext context, Page page,
+                   ScreencastBuffer screencast, boolean tracing, Path videoDir, String owner) {
+
+        void close() {
+            if (screencast != null) {
+                screencast.stop();
+            }
+            if (page != null && !page.isClosed()) {
+                page.close();
+            }
+            if (context != null) {
+                // An unsaved trace belongs to a passed test and is discarded
+                if (tracing) {
+                    context.tracing().stop();
+                }
+                context.close();
+            }
+            PlaywrightFactory.finishVideo(videoDir, null, owner);
+            if (browser != null && browser.isConnected()) {
+                browser.close();
+            }
+        }
+    }
+}
@@ -2,6 +2,8 @@ package com.enterprise.automation.config;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -47,13 +49,17 @@ public class Configuration {
     }
 
     /**
-     * Get environment variable with fallback to properties file
+     * Get environment variable with fallback to system property (-Dkey=value) and properties file
      */
     public String getEnv(String key, String defaultValue) {
         String envValue = System.getenv(key);
         if (envValue != null) {
             return envValue;
         }
+        String systemValue = System.getProperty(key);
+        if (systemValue != null) {
+            return systemValue;
+        }
         return ENV_PROPERTIES.getProperty(key, defaultValue);
     }
 
@@ -62,9 +68,13 @@ public class Configuration {
     }
 
     /**
-     * Get playwright configuration
+     * Get playwright configuration with system property override (-Dkey=value)
      */
     public String getPlaywrightConfig(String key, String defaultValue) {
+        String systemValue = System.getProperty(key);
+        if (systemValue != null) {
+            return systemValue;
+        }
         return PLAYWRIGHT_PROPERTIES.getProperty(key, defaultValue);
     }
 
@@ -108,7 +118,217 @@ public class Configuration {
         return Integer.parseInt(getPlaywrightConfig("viewport.height", "1080"));
     }
 
+    public String getTraceMode() {
+        return getPlaywrightConfig("trace", "retain_on_failure").toLowerCase();
+    }
+
+    public boolean isContextRecyclingEnabled() {
+        return Boolean.parseBoolean(getPlaywrightConfig("context.recycling", "false"));
+    }
+
+    public boolean isAsyncTeardownEnabled() {
+        return Boolean.parseBoolean(getPlaywrightConfig("teardown.async", "false"));
+    }
+
+    public int getTeardownQueueSize() {
+        return Integer.parseInt(getPlaywrightConfig("teardown.queue.size", "4"));
+    }
+
+    public int getTeardownReaperThreads() {
+        return Integer.parseInt(getPlaywrightConfig("teardown.reaper.threads", "2"));
+    }
+
+    public long getTeardownTimeoutMs() {
+        return Long.parseLong(getPlaywrightConfig("teardown.timeout.ms", "30000"));
+    }
+
+    public long getWatchdogTimeoutMs() {
+        return Long.parseLong(getPlaywrightConfig("watchdog.timeout.ms", "600000"));
+    }
+
+    // Visual regression getters
+    public String getVisualBaselineDir() {
+        return getPlaywrightConfig("visual.baseline.dir", "src/test/resources/baselines");
+    }
+
+    public boolean isVisualUpdate() {
+        return Boolean.parseBoolean(getPlaywrightConfig("visual.update", "false"));
+    }
+
+    public int getVisualPixelTolerance() {
+        return Integer.parseInt(getPlaywrightConfig("visual.pixel.tolerance", "10"));
+    }
+
+    public double getVisualMaxDiffRatio() {
+        return Double.parseDouble(getPlaywrightConfig("visual.max.diff.ratio", "0.001"));
+    }
+
+    public int getVisualMaxHashDistance() {
+        return Integer.parseInt(getPlaywrightConfig("visual.max.hash.distance", "12"));
+    }
+
+    public int getVisualThreads() {
+        return Integer.parseInt(getPlaywrightConfig("visual.threads", "0"));
+    }
+
+    // Adaptive timeout getters
+    public String getTimeoutMode() {
+        return getPlaywrightConfig("timeout.mode", "fixed").toLowerCase();
+    }
+
+    public double getTimeoutMultiplier() {
+        return Double.parseDouble(getPlaywrightConfig("timeout.adaptive.multiplier", "3"));
+    }
+
+    public int getTimeoutFloor() {
+        return Integer.parseInt(getPlaywrightConfig("timeout.adaptive.floor", "2000"));
+    }
+
+    public int getTimeoutMinSamples() {
+        return Integer.parseInt(getPlaywrightConfig("timeout.adaptive.min.samples", "20"));
+    }
+
+    public boolean isTimeoutAdaptiveGrace() {
+        return Boolean.parseBoolean(getPlaywrightConfig("timeout.adaptive.grace", "false"));
+    }
+
+    public String getTimeoutHistoryFile() {
+        return getPlaywrightConfig("timeout.history.file", "target/test-history/selector-latency.json");
+    }
+
+    // Environment circuit breaker getters
+    public boolean isCircuitBreakerEnabled() {
+        return Boolean.parseBoolean(getPlaywrightConfig("circuit.breaker.enabled", "true"));
+    }
+
+    public int getCircuitBreakerThreshold() {
+        return Integer.parseInt(getPlaywrightConfig("circuit.breaker.threshold", "3"));
+    }
+
+    public int getCircuitBreakerCooldownSeconds() {
+        return Integer.parseInt(getPlaywrightConfig("circuit.breaker.cooldown.seconds", "60"));
+    }
+
+    public int getCircuitBreakerProbeTimeout() {
+        return Integer.parseInt(getPlaywrightConfig("circuit.breaker.probe.timeout", "5000"));
+    }
+
+    // Smart retry and quarantine getters
+    public boolean isRetryEnabled() {
+        return Boolean.parseBoolean(getPlaywrightConfig("retry.enabled", "true"));
+    }
+
+    public int getMaxRetries() {
+        return Integer.parseInt(getPlaywrightConfig("retry.max", "1"));
+    }
+
+    public String getRetryHistoryFile() {
+        return getPlaywrightConfig("retry.history.file", "target/test-history/history.json");
+    }
+
+    public int getRetryHistoryWindow() {
+        return Integer.parseInt(getPlaywrightConfig("retry.history.window", "20"));
+    }
+
+    public int getQuarantineMinRuns() {
+        return Integer.parseInt(getPlaywrightConfig("retry.quarantine.min.runs", "5"));
+    }
+
+    public double getQuarantineFailRate() {
+        return Double.parseDouble(getPlaywrightConfig("retry.quarantine.fail.rate", "0.3"));
+    }
+
+    public int getQuarantineThreads() {
+        return Integer.parseInt(getPlaywrightConfig("retry.quarantine.threads", "2"));
+    }
+
+    public String getVideoMode() {
+        return getPlaywrightConfig("video", "off").toLowerCase();
+    }
+
+    public int getVideoBufferSeconds() {
+        return Integer.parseInt(getPlaywrightConfig("video.buffer.seconds", "10"));
+    }
+
+    public String getScreenshotFormat() {
+        return getPlaywrightConfig("screenshot.format", "png").toLowerCase();
+    }
+
+    public int getScreenshotQuality() {
+        return Integer.parseInt(getPlaywrightConfig("screenshot.quality", "80"));
+    }
+
+    public String getNavigationWait() {
+        return getPlaywrightConfig("navigation.wait", "domcontentloaded");
+    }
+
+    public String getDashboardDataApi() {
+        return getPlaywrightConfig("dashboard.data.api", "**/api/**");
+    }
+
+    // Browser server getters: local launches browsers, remote connects to browser.server.endpoints,
+    // server starts local browser servers as stand-ins for dedicated browser nodes
+    public String getBrowserMode() {
+        String envValue = System.getenv("BROWSER_MODE");
+        return (envValue != null ? envValue : getPlaywrightConfig("browser.mode", "local")).toLowerCase();
+    }
+
+    public List<String> getBrowserServerEndpoints() {
+        String envValue = System.getenv("BROWSER_SERVER_ENDPOINTS");
+        if (envValue != null) {
+            return Arrays.stream(envValue.split(",")).map(String::trim).filter(item -> !item.isEmpty()).toList();
+        }
+        return getListConfig("browser.server.endpoints");
+    }
+
+    public int getLocalBrowserServerCount() {
+        return Integer.parseInt(getPlaywrightConfig("browser.server.local.count", "2"));
+    }
+
+    public int getBrowserServerRetries() {
+        return Integer.parseInt(getPlaywrightConfig("browser.server.retries", "2"));
+    }
+
+    public boolean isResourceMonitoringEnabled() {
+        return Boolean.parseBoolean(getPlaywrightConfig("resource.monitoring", "false"));
+    }
+
+    public boolean isMetricsEnabled() {
+        return Boolean.parseBoolean(getPlaywrightConfig("metrics.enabled", "false"));
+    }
+
+    public int getMetricsPort() {
+        return Integer.parseInt(getPlaywrightConfig("metrics.port", "9464"));
+    }
+
     public int getParallelTests() {
         return Integer.parseInt(getPlaywrightConfig("parallel.tests", "4"));
     }
+
+    // Resource blocking (fast mode) getters
+    public String getBlockMode() {
+        return getPlaywrightConfig("block.mode", "off").toLowerCase();
+    }
+
+    public List<String> getBlockedResourceTypes() {
+        return getListConfig("block.resource.types");
+    }
+
+    public List<String> getBlockedDomains() {
+        return getListConfig("block.domains");
+    }
+
+    /**
+     * Get comma separated playwright configuration as a list
+     */
+    public List<String> getListConfig(String key) {
+        String value = getPlaywrightConfig(key, "");
+        if (value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
 }
@@ -0,0 +1,110 @@
+package com.enterprise.automation.fixture;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Lazily created, memoized test fixture with a lifetime scope
+ * Declared once (typically as a static field) and resolved with get(); the value is created on first use
+ * within its scope, at most once even under parallel access, and torn down when the scope ends.
+ * Read-only fixtures are shared by all threads of a scope; other fixtures get one value per thread.
+ * Values holding Playwright objects are thread-confined and belong in TEST scope
+ */
+public final class Fixture<T> {
+
+    public enum Scope { SUITE, CLASS, TEST }
+
+    private final String name;
+    private final Scope scope;
+    private final Supplier<T> setup;
+    private final List<Fixture<?>> dependencies = new ArrayList<>();
+    private Consumer<? super T> teardown = value -> { };
+    private boolean readOnly;
+
+    private Fixture(String name, Scope scope, Supplier<T> setup) {
+        this.name = name;
+        this.scope = scope;
+        this.setup = setup;
+    }
+
+    public static <T> Fixture<T> suite(String name, Supplier<T> setup) {
+        return new Fixture<>(name, Scope.SUITE, setup);
+    }
+
+    public static <T> Fixture<T> perClass(String name, Supplier<T> setup) {
+        return new Fixture<>(name, Scope.CLASS, setup);
+    }
+
+    public static <T> Fixture<T> perTest(String name, Supplier<T> setup) {
+        return new Fixture<>(name, Scope.TEST, setup);
+    }
+
+    /**
+     * Share one value across threads; only for values that tests never modify
+     */
+    public Fixture<T> readOnly() {
+        this.readOnly = true;
+        return this;
+    }
+
+    /**
+     * Cleanup run when the scope ends, in reverse order of creation
+     */
+    public Fixture<T> teardown(Consumer<? super T> teardown) {
+        this.teardown = teardown;
+        return this;
+    }
+
+    /**
+     * Fixtures to create before this one; they must live at least as long (same or wider scope)
+     */
+    public Fixture<T> dependsOn(Fixture<?>... fixtures) {
+        for (Fixture<?> dependency : fixtures) {
+            if (dependency.scope.ordinal() > scope.ordinal()) {
+                throw new IllegalArgumentException(String.format("%s fixture '%s' cannot depend on %s fixture '%s'",
+                        scope, name, dependency.scope, dependency.name));
+            }
+            dependencies.add(dependency);
+        }
+        return this;
+    }
+
+    /**
+     * Value for the current scope, created on first use
+     */
+    public T get() {
+        return Fixtures.resolve(this);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Scope getScope() {
+        return scope;
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    List<Fixture<?>> getDependencies() {
+        return dependencies;
+    }
+
+    T create() {
+        return setup.get();
+    }
+
+    @SuppressWarnings("unchecked")
+    void destroy(Object value) {
+        teardown.accept((T) value);
+    }
+
+    @Override
+    public String toString() {
+        return scope.name().toLowerCase() + " fixture '" + name + "'";
+    }
+}
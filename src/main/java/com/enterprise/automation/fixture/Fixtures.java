@@ -0,0 +1,175 @@
+package com.enterprise.automation.fixture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Scope bookkeeping for fixtures: which suite, class and test the current thread runs, the values created
+ * per scope, and their teardown in reverse creation order when BaseTest ends the scope
+ */
+public final class Fixtures {
+    private static final Logger logger = LoggerFactory.getLogger(Fixtures.class);
+    private static final String SUITE_SCOPE = "suite";
+    private static final Map<String, ScopeValues> scopes = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Class<?>> currentClass = new ThreadLocal<>();
+    private static final ThreadLocal<String> currentTest = new ThreadLocal<>();
+    private static final ThreadLocal<Deque<Fixture<?>>> resolving = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final AtomicLong testCounter = new AtomicLong();
+
+    private Fixtures() {}
+
+    /**
+     * Enter the scope of a test method on the current thread
+     */
+    public static void beginTest(Class<?> testClass) {
+        currentClass.set(testClass);
+        currentTest.set("test:" + testCounter.incrementAndGet());
+    }
+
+    /**
+     * Tear down the TEST fixtures of the current thread's test
+     */
+    public static void endTest() {
+        String test = currentTest.get();
+        currentTest.remove();
+        if (test != null) {
+            close(test);
+        }
+    }
+
+    public static void endClass(Class<?> testClass) {
+        close("class:" + testClass.getName());
+    }
+
+    public static void endSuite() {
+        scopes.keySet().forEach(Fixtures::close);
+    }
+
+    static <T> T resolve(Fixture<T> fixture) {
+        Deque<Fixture<?>> stack = resolving.get();
+        if (stack.contains(fixture)) {
+            throw new IllegalStateException("Fixture dependency cycle: " + stack + " -> " + fixture);
+        }
+        stack.push(fixture);
+        try {
+            for (Fixture<?> dependency : fixture.getDependencies()) {
+                resolve(dependency);
+            }
+            Slot slot = scopeValues(fixture).slot(fixture);
+            return cast(slot.get());
+        } finally {
+            stack.pop();
+        }
+    }
+
+    private static ScopeValues scopeValues(Fixture<?> fixture) {
+        String scope = switch (fixture.getScope()) {
+            case SUITE -> SUITE_SCOPE;
+            case CLASS -> {
+                Class<?> testClass = currentClass.get();
+                if (testClass == null) {
+                    throw new IllegalStateException(fixture + " used outside of a test method");
+                }
+                yield "class:" + testClass.getName();
+            }
+            case TEST -> {
+                String test = currentTest.get();
+                if (test == null) {
+                    throw new IllegalStateException(fixture + " used outside of a test method");
+                }
+                yield test;
+            }
+        };
+        return scopes.computeIfAbsent(scope, ScopeValues::new);
+    }
+
+    private static void close(String scope) {
+        ScopeValues values = scopes.remove(scope);
+        if (values != null) {
+            values.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+
+    /**
+     * Values of one scope instance; readOnly values are keyed by fixture, others by fixture and thread
+     */
+    private static class ScopeValues {
+        private final String scope;
+        private final Map<SlotKey, Slot> slots = new ConcurrentHashMap<>();
+        private final Deque<Slot> created = new ConcurrentLinkedDeque<>();
+
+        ScopeValues(String scope) {
+            this.scope = scope;
+        }
+
+        Slot slot(Fixture<?> fixture) {
+            SlotKey key = new SlotKey(fixture, fixture.isReadOnly() ? 0 : Thread.currentThread().threadId());
+            return slots.computeIfAbsent(key, k -> new Slot(fixture, this));
+        }
+
+        void close() {
+            // Dependencies finish creating before their dependents, so creation order reversed is safe
+            for (Iterator<Slot> it = created.descendingIterator(); it.hasNext(); ) {
+                Slot slot = it.next();
+                try {
+                    slot.fixture.destroy(slot.task.get());
+                    logger.debug("Fixture torn down: {} ({})", slot.fixture, scope);
+                } catch (Exception e) {
+                    logger.warn("Teardown of {} failed: {}", slot.fixture, e.toString());
+                }
+            }
+            created.clear();
+            slots.clear();
+        }
+    }
+
+    /**
+     * Single-flight holder: the first caller creates the value, concurrent callers wait for it
+     */
+    private static class Slot {
+        private final Fixture<?> fixture;
+        private final FutureTask<Object> task;
+
+        Slot(Fixture<?> fixture, ScopeValues owner) {
+            this.fixture = fixture;
+            this.task = new FutureTask<>(() -> {
+                long start = System.nanoTime();
+                Object value = fixture.create();
+                owner.created.add(this);
+                logger.info("Fixture created: {} in {} ms ({})", fixture, (System.nanoTime() - start) / 1_000_000,
+                        owner.scope);
+                return value;
+            });
+        }
+
+        Object get() {
+            task.run();
+            try {
+                return task.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for " + fixture, e);
+            } catch (ExecutionException e) {
+                // Setup failures are memoized too: every test of the scope fails fast with the same cause
+                throw new IllegalStateException("Setup of " + fixture + " failed", e.getCause());
+            }
+        }
+    }
+
+    private record SlotKey(Fixture<?> fixture, long threadId) {}
+}
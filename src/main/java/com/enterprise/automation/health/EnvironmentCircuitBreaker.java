@@ -0,0 +1,207 @@
+package com.enterprise.automation.health;
+
+import com.enterprise.automation.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestResult;
+import org.testng.SkipException;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Suite-level circuit breaker for the environment under test
+ * A preflight probe of the base and API URLs runs before the first test; consecutive connection-level
+ * failures across all threads open the breaker, after which tests are skipped instead of waiting out
+ * navigation timeouts. After the cool-down the breaker is half-open: the next test re-probes the
+ * environment and closes the breaker when it answers again
+ */
+public class EnvironmentCircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(EnvironmentCircuitBreaker.class);
+    private static final List<String> CONNECTION_ERRORS = List.of(
+            "net::ERR_NAME_NOT_RESOLVED", "net::ERR_CONNECTION_REFUSED", "net::ERR_CONNECTION_RESET",
+            "net::ERR_CONNECTION_CLOSED", "net::ERR_CONNECTION_TIMED_OUT", "net::ERR_ADDRESS_UNREACHABLE",
+            "net::ERR_INTERNET_DISCONNECTED", "net::ERR_TIMED_OUT",
+            "NS_ERROR_CONNECTION_REFUSED", "NS_ERROR_UNKNOWN_HOST", "NS_ERROR_NET_TIMEOUT", "NS_ERROR_NET_RESET",
+            "Could not connect to", "Could not resolve host");
+    private static volatile EnvironmentCircuitBreaker instance;
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final boolean enabled;
+    private final int threshold;
+    private final long cooldownMillis;
+    private final Duration probeTimeout;
+    private final List<String> probeUrls;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+    private volatile String reason;
+    private volatile boolean preflightDone;
+
+    private EnvironmentCircuitBreaker(Configuration config) {
+        this.enabled = config.isCircuitBreakerEnabled();
+        this.threshold = config.getCircuitBreakerThreshold();
+        this.cooldownMillis = config.getCircuitBreakerCooldownSeconds() * 1000L;
+        this.probeTimeout = Duration.ofMillis(config.getCircuitBreakerProbeTimeout());
+        this.probeUrls = List.of(config.getBaseUrl(), config.getApiBaseUrl());
+    }
+
+    public static EnvironmentCircuitBreaker getInstance() {
+        if (instance == null) {
+            synchronized (EnvironmentCircuitBreaker.class) {
+                if (instance == null) {
+                    instance = new EnvironmentCircuitBreaker(Configuration.getInstance());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Skip the current test when the environment is known to be down
+     */
+    public void checkAvailable() {
+        if (!enabled) {
+            return;
+        }
+        if (!preflightDone) {
+            preflight();
+        }
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= cooldownMillis) {
+            halfOpen();
+        }
+        if (state == State.OPEN) {
+            throw new SkipException("Environment circuit breaker open: " + reason);
+        }
+    }
+
+    /**
+     * Feed a finished test into the breaker: connection-level failures count towards opening it, any other
+     * pass or failure shows the environment answered and resets the count; skips carry no evidence either way
+     */
+    public void record(ITestResult result) {
+        if (!enabled || result.getStatus() == ITestResult.SKIP) {
+            return;
+        }
+        if (result.getThrowable() == null || !isConnectionFailure(result.getThrowable())) {
+            consecutiveFailures.set(0);
+        } else {
+            int failures = consecutiveFailures.incrementAndGet();
+            logger.warn("Connection-level failure {}/{} in {}: {}", failures, threshold,
+                    result.getName(), result.getThrowable().getMessage());
+            if (failures >= threshold) {
+                open(failures + " consecutive connection failures, last: " + firstLine(result.getThrowable()));
+            }
+        }
+    }
+
+    /**
+     * Whether the throwable (or a cause) means the environment could not be reached at all
+     */
+    public static boolean isConnectionFailure(Throwable throwable) {
+        for (Throwable current = throwable; current != null; current = current.getCause()) {
+            if (current instanceof ConnectException || current instanceof UnknownHostException
+                    || current instanceof NoRouteToHostException || current instanceof SocketTimeoutException
+                    || current instanceof HttpTimeoutException) {
+                return true;
+            }
+            String message = current.getMessage();
+            if (message != null && CONNECTION_ERRORS.stream().anyMatch(message::contains)) {
+                return true;
+            }
+            if (message != null && message.startsWith("Timeout") && message.contains("navigating to")) {
+                return true;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    private synchronized void preflight() {
+        if (preflightDone) {
+            return;
+        }
+        String failure = probe();
+        if (failure != null) {
+            open("preflight probe failed, " + failure);
+        } else {
+            logger.info("Environment preflight passed: {}", probeUrls);
+        }
+        preflightDone = true;
+    }
+
+    private synchronized void halfOpen() {
+        if (state != State.OPEN || System.currentTimeMillis() - openedAt < cooldownMillis) {
+            return;
+        }
+        state = State.HALF_OPEN;
+        logger.info("Environment circuit breaker half-open, probing {}", probeUrls);
+        String failure = probe();
+        if (failure != null) {
+            open("probe after cool-down failed, " + failure);
+        } else {
+            consecutiveFailures.set(0);
+            state = State.CLOSED;
+            logger.info("Environment circuit breaker closed: environment reachable again");
+        }
+    }
+
+    private synchronized void open(String why) {
+        reason = why;
+        openedAt = System.currentTimeMillis();
+        if (state != State.OPEN) {
+            state = State.OPEN;
+            logger.error("Environment circuit breaker opened, skipping tests for {}s: {}", cooldownMillis / 1000, why);
+        }
+    }
+
+    /**
+     * Request every probe URL; any HTTP response counts as reachable
+     * @return null when all URLs answered, otherwise a description of the failures
+     */
+    private String probe() {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(probeTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        List<String> failures = new ArrayList<>();
+        for (String url : probeUrls) {
+            try {
+                HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(probeTimeout).GET().build();
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                logger.debug("Health probe {} answered {}", url, status);
+            } catch (IOException | IllegalArgumentException e) {
+                failures.add(url + " unreachable (" + e.getClass().getSimpleName() + ": " + e.getMessage() + ")");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failures.add(url + " probe interrupted");
+            }
+        }
+        return failures.isEmpty() ? null : String.join("; ", failures);
+    }
+
+    private static String firstLine(Throwable throwable) {
+        String message = String.valueOf(throwable.getMessage());
+        int newline = message.indexOf('\n');
+        return newline < 0 ? message : message.substring(0, newline);
+    }
+}
@@ -0,0 +1,17 @@
+package com.enterprise.automation.health;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test class that does not use the environment under test (e.g. setContent-only or public sites)
+ * Its tests run while the EnvironmentCircuitBreaker is open and do not feed the breaker
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+public @interface EnvironmentIndependent {
+}
@@ -0,0 +1,311 @@
+package com.enterprise.automation.impact;
+
+import org.objectweb.asm.AnnotationVisitor;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Handle;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Static dependency index of compiled main and test classes, built from bytecode with ASM
+ * Records the classes each class references, the classes and string constants each test method
+ * reaches through its own class hierarchy, and the source file every class was compiled from
+ */
+public class DependencyIndex {
+    private static final Logger logger = LoggerFactory.getLogger(DependencyIndex.class);
+    private static final String TEST_ANNOTATION = "Lorg/testng/annotations/Test;";
+    private static final String ANNOTATION_PACKAGE = "Lorg/testng/annotations/";
+
+    private final Map<String, ClassInfo> classes = new HashMap<>();
+
+    private DependencyIndex() {}
+
+    /**
+     * Index every .class file below the given directories
+     */
+    public static DependencyIndex build(Path... classDirs) throws IOException {
+        DependencyIndex index = new DependencyIndex();
+        for (Path dir : classDirs) {
+            if (!Files.isDirectory(dir)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.walk(dir)) {
+                for (Path file : files.filter(path -> path.toString().endsWith(".class")).toList()) {
+                    try (InputStream in = Files.newInputStream(file)) {
+                        ClassInfo info = new ClassInfo();
+                        new ClassReader(in).accept(info.visitor(), ClassReader.SKIP_FRAMES);
+                        index.classes.put(info.name, info);
+                    }
+                }
+            }
+        }
+        logger.info("Dependency index built: {} classes", index.classes.size());
+        return index;
+    }
+
+    /**
+     * Internal names of the classes compiled from a source path such as com/enterprise/automation/pages/LoginPage.java
+     */
+    public Set<String> classesOfSource(String sourcePath) {
+        Set<String> result = new HashSet<>();
+        classes.values().forEach(info -> {
+            if (sourcePath.equals(info.sourcePath())) {
+                result.add(info.name);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * The given classes plus every class that references them, directly or transitively
+     */
+    public Set<String> dependents(Set<String> changed) {
+        Map<String, Set<String>> reverse = new HashMap<>();
+        classes.values().forEach(info -> info.references().forEach(
+                reference -> reverse.computeIfAbsent(reference, key -> new HashSet<>()).add(info.name)));
+        Set<String> result = new HashSet<>(changed);
+        Deque<String> queue = new ArrayDeque<>(changed);
+        while (!queue.isEmpty()) {
+            for (String dependent : reverse.getOrDefault(queue.poll(), Set.of())) {
+                if (result.add(dependent)) {
+                    queue.add(dependent);
+                }
+            }
+        }
+        return result;
+    }
+
+    public boolean contains(String className) {
+        return classes.containsKey(className);
+    }
+
+    /**
+     * @Test method names of a class, including inherited ones
+     */
+    public Set<String> testMethods(String className) {
+        Set<String> result = new HashSet<>();
+        for (ClassInfo info : hierarchy(className)) {
+            result.addAll(info.testMethods);
+        }
+        return result;
+    }
+
+    /**
+     * Class names of the test class hierarchy (the class and its indexed superclasses)
+     */
+    public Set<String> hierarchyNames(String className) {
+        Set<String> result = new HashSet<>();
+        hierarchy(className).forEach(info -> result.add(info.name));
+        return result;
+    }
+
+    /**
+     * Classes and string constants used by a test method: its body, lambdas and helper methods of its class
+     * hierarchy it calls, plus configuration methods and constructors that run around every test
+     */
+    public Usage usage(String className, String testMethod) {
+        List<ClassInfo> hierarchy = hierarchy(className);
+        Usage usage = new Usage(new HashSet<>(), new HashSet<>());
+        Set<String> visited = new HashSet<>();
+        Deque<String> queue = new ArrayDeque<>();
+        queue.add(testMethod);
+        for (ClassInfo info : hierarchy) {
+            queue.addAll(info.configurationMethods);
+        }
+        while (!queue.isEmpty()) {
+            String name = queue.poll();
+            if (!visited.add(name)) {
+                continue;
+            }
+            for (ClassInfo info : hierarchy) {
+                MethodInfo method = info.methods.get(name);
+                if (method != null) {
+                    usage.classes.addAll(method.types);
+                    usage.strings.addAll(method.strings);
+                    method.calls.forEach(call -> {
+                        String owner = call.substring(0, call.indexOf('.'));
+                        if (hierarchy.stream().anyMatch(candidate -> candidate.name.equals(owner))) {
+                            queue.add(call.substring(call.indexOf('.') + 1));
+                        }
+                    });
+                }
+            }
+        }
+        hierarchy.forEach(info -> usage.classes.addAll(info.fieldTypes));
+        return usage;
+    }
+
+    private List<ClassInfo> hierarchy(String className) {
+        List<ClassInfo> result = new java.util.ArrayList<>();
+        ClassInfo info = classes.get(className);
+        while (info != null) {
+            result.add(info);
+            info = info.superName == null ? null : classes.get(info.superName);
+        }
+        return result;
+    }
+
+    /**
+     * Classes (internal names) and string constants reached by a test method
+     */
+    public record Usage(Set<String> classes, Set<String> strings) {}
+
+    private static class MethodInfo {
+        private final Set<String> types = new HashSet<>();
+        private final Set<String> strings = new HashSet<>();
+        private final Set<String> calls = new HashSet<>();
+    }
+
+    private static class ClassInfo {
+        private String name;
+        private String superName;
+        private String sourceFile;
+        private final Set<String> interfaces = new HashSet<>();
+        private final Set<String> fieldTypes = new HashSet<>();
+        private final Map<String, MethodInfo> methods = new LinkedHashMap<>();
+        private final Set<String> testMethods = new HashSet<>();
+        private final Set<String> configurationMethods = new HashSet<>();
+
+        String sourcePath() {
+            if (sourceFile == null) {
+                return null;
+            }
+            int slash = name.lastIndexOf('/');
+            return slash < 0 ? sourceFile : name.substring(0, slash + 1) + sourceFile;
+        }
+
+        Set<String> references() {
+            Set<String> result = new HashSet<>(interfaces);
+            if (superName != null) {
+                result.add(superName);
+            }
+            result.addAll(fieldTypes);
+            methods.values().forEach(method -> result.addAll(method.types));
+            // Nested classes belong to their outer class: a change to one is a change to the source file
+            int dollar = name.indexOf('$');
+            if (dollar > 0) {
+                result.add(name.substring(0, dollar));
+            }
+            result.remove(name);
+            return result;
+        }
+
+        ClassVisitor visitor() {
+            return new ClassVisitor(Opcodes.ASM9) {
+                @Override
+                public void visit(int version, int access, String className, String signature,
+                                  String superClass, String[] interfaceNames) {
+                    name = className;
+                    superName = superClass;
+                    if (interfaceNames != null) {
+                        interfaces.addAll(List.of(interfaceNames));
+                    }
+                }
+
+                @Override
+                public void visitSource(String source, String debug) {
+                    sourceFile = source;
+                }
+
+                @Override
+                public FieldVisitor visitField(int access, String fieldName, String descriptor, String signature,
+                                               Object value) {
+                    addType(fieldTypes, Type.getType(descriptor));
+                    return null;
+                }
+
+                @Override
+                public MethodVisitor visitMethod(int access, String methodName, String descriptor, String signature,
+                                                 String[] exceptions) {
+                    MethodInfo method = methods.computeIfAbsent(methodName, key -> new MethodInfo());
+                    addType(method.types, Type.getReturnType(descriptor));
+                    for (Type argument : Type.getArgumentTypes(descriptor)) {
+                        addType(method.types, argument);
+                    }
+                    if (methodName.equals("<init>") || methodName.equals("<clinit>")) {
+                        configurationMethods.add(methodName);
+                    }
+                    return new MethodVisitor(Opcodes.ASM9) {
+                        @Override
+                        public AnnotationVisitor visitAnnotation(String annotation, boolean visible) {
+                            if (TEST_ANNOTATION.equals(annotation)) {
+                                testMethods.add(methodName);
+                            } else if (annotation.startsWith(ANNOTATION_PACKAGE)
+                                    && (annotation.contains("/Before") || annotation.contains("/After"))) {
+                                configurationMethods.add(methodName);
+                            }
+                            return null;
+                        }
+
+                        @Override
+                        public void visitTypeInsn(int opcode, String type) {
+                            addType(method.types, Type.getObjectType(type));
+                        }
+
+                        @Override
+                        public void visitFieldInsn(int opcode, String owner, String field, String fieldDescriptor) {
+                            addType(method.types, Type.getObjectType(owner));
+                            addType(method.types, Type.getType(fieldDescriptor));
+                        }
+
+                        @Override
+                        public void visitMethodInsn(int opcode, String owner, String called, String calledDescriptor,
+                                                    boolean isInterface) {
+                            addType(method.types, Type.getObjectType(owner));
+                            addType(method.types, Type.getReturnType(calledDescriptor));
+                            method.calls.add(owner + "." + called);
+                        }
+
+                        @Override
+                        public void visitInvokeDynamicInsn(String called, String calledDescriptor, Handle bootstrap,
+                                                           Object... arguments) {
+                            addType(method.types, Type.getReturnType(calledDescriptor));
+                            for (Object argument : arguments) {
+                                visitLdcInsn(argument);
+                            }
+                        }
+
+                        @Override
+                        public void visitLdcInsn(Object value) {
+                            if (value instanceof String string) {
+                                method.strings.add(string);
+                            } else if (value instanceof Type type && type.getSort() != Type.METHOD) {
+                                addType(method.types, type);
+                            } else if (value instanceof Handle handle) {
+                                // Lambda bodies and method references
+                                addType(method.types, Type.getObjectType(handle.getOwner()));
+                                method.calls.add(handle.getOwner() + "." + handle.getName());
+                            }
+                        }
+                    };
+                }
+            };
+        }
+
+        private static void addType(Set<String> target, Type type) {
+            Type element = type.getSort() == Type.ARRAY ? type.getElementType() : type;
+            if (element.getSort() == Type.OBJECT) {
+                target.add(element.getInternalName());
+            }
+        }
+    }
+}
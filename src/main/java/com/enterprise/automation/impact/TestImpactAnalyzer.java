@@ -0,0 +1,217 @@
+package com.enterprise.automation.impact;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import org.testng.xml.internal.Parser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Test impact analysis: maps the files changed since a base revision to the test methods that can reach them
+ * and writes a copy of a TestNG suite that includes only those methods
+ * Changes the index cannot attribute (build files, configuration, suites) select the whole suite
+ */
+public class TestImpactAnalyzer {
+    private static final Logger logger = LoggerFactory.getLogger(TestImpactAnalyzer.class);
+    private static final List<String> SOURCE_ROOTS = List.of("src/main/java/", "src/test/java/");
+    private static final String TEST_DATA_ROOT = "src/test/resources/testdata/";
+    private static final List<String> IGNORED_PREFIXES = List.of("src/jmh/", "docs/", ".github/");
+
+    private final DependencyIndex index;
+
+    public TestImpactAnalyzer(DependencyIndex index) {
+        this.index = index;
+    }
+
+    /**
+     * Test methods affected by the changed files, as Class#method, or null when the whole suite has to run
+     */
+    public Set<String> affectedTests(List<String> changedFiles, Set<String> candidateClasses) {
+        Set<String> changedClasses = new HashSet<>();
+        Set<String> changedData = new HashSet<>();
+        for (String file : changedFiles) {
+            String source = sourcePath(file);
+            if (source != null) {
+                Set<String> compiled = index.classesOfSource(source);
+                if (compiled.isEmpty()) {
+                    // New or deleted source without bytecode to reason about
+                    logger.info("Unindexed source changed, running all tests: {}", file);
+                    return null;
+                }
+                changedClasses.addAll(compiled);
+            } else if (file.startsWith(TEST_DATA_ROOT)) {
+                changedData.add(Paths.get(file).getFileName().toString());
+            } else if (!isIgnored(file)) {
+                logger.info("Change outside the dependency index, running all tests: {}", file);
+                return null;
+            }
+        }
+
+        Set<String> affectedClasses = index.dependents(changedClasses);
+        Set<String> affected = new TreeSet<>();
+        for (String className : candidateClasses) {
+            String internalName = className.replace('.', '/');
+            Set<String> hierarchy = index.hierarchyNames(internalName);
+            boolean hierarchyChanged = hierarchy.stream().anyMatch(changedClasses::contains)
+                    || changedClasses.stream().anyMatch(changed -> changed.startsWith(internalName + "$"));
+            for (String method : index.testMethods(internalName)) {
+                if (hierarchyChanged || uses(index.usage(internalName, method), hierarchy, affectedClasses, changedData)) {
+                    affected.add(className + "#" + method);
+                }
+            }
+        }
+        return affected;
+    }
+
+    private static boolean uses(DependencyIndex.Usage usage, Set<String> hierarchy, Set<String> affectedClasses,
+                                Set<String> changedData) {
+        for (String used : usage.classes()) {
+            if (!hierarchy.contains(used) && affectedClasses.contains(used)) {
+                return true;
+            }
+        }
+        for (String string : usage.strings()) {
+            for (String data : changedData) {
+                if (string.equals(data) || string.endsWith("/" + data)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Copy of the suite restricted to the affected methods; tests and classes left without methods are dropped
+     */
+    public XmlSuite restrict(XmlSuite suite, Set<String> affected) {
+        XmlSuite restricted = (XmlSuite) suite.clone();
+        restricted.setName(suite.getName() + " (impacted)");
+        restricted.setTests(new ArrayList<>());
+        for (XmlTest test : suite.getTests()) {
+            List<XmlClass> classes = new ArrayList<>();
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                List<XmlInclude> includes = new ArrayList<>();
+                for (String method : candidateMethods(xmlClass)) {
+                    if (affected.contains(xmlClass.getName() + "#" + method)) {
+                        includes.add(new XmlInclude(method));
+                    }
+                }
+                if (!includes.isEmpty()) {
+                    XmlClass copy = new XmlClass(xmlClass.getName(), false);
+                    copy.setIncludedMethods(includes);
+                    classes.add(copy);
+                }
+            }
+            if (!classes.isEmpty()) {
+                // new XmlTest(suite) registers the copy with the restricted suite
+                XmlTest copy = new XmlTest(restricted);
+                copy.setName(test.getName());
+                copy.setParallel(test.getParallel());
+                copy.setThreadCount(test.getThreadCount());
+                copy.setParameters(test.getLocalParameters());
+                copy.setIncludedGroups(test.getIncludedGroups());
+                copy.setExcludedGroups(test.getExcludedGroups());
+                copy.setPreserveOrder(test.getPreserveOrder());
+                copy.setXmlClasses(classes);
+            }
+        }
+        return restricted;
+    }
+
+    private Set<String> candidateMethods(XmlClass xmlClass) {
+        Set<String> methods = new LinkedHashSet<>();
+        if (!xmlClass.getIncludedMethods().isEmpty()) {
+            xmlClass.getIncludedMethods().forEach(include -> methods.add(include.getName()));
+        } else {
+            methods.addAll(new TreeSet<>(index.testMethods(xmlClass.getName().replace('.', '/'))));
+        }
+        methods.removeAll(xmlClass.getExcludedMethods());
+        return methods;
+    }
+
+    private static Set<String> suiteClasses(XmlSuite suite) {
+        Set<String> classes = new TreeSet<>();
+        suite.getTests().forEach(test -> test.getXmlClasses().forEach(xmlClass -> classes.add(xmlClass.getName())));
+        return classes;
+    }
+
+    private static String sourcePath(String file) {
+        for (String root : SOURCE_ROOTS) {
+            if (file.startsWith(root) && file.endsWith(".java")) {
+                return file.substring(root.length());
+            }
+        }
+        return null;
+    }
+
+    private static boolean isIgnored(String file) {
+        return file.endsWith(".md") || IGNORED_PREFIXES.stream().anyMatch(file::startsWith);
+    }
+
+    /**
+     * Files changed between the merge base with the base revision and the working tree
+     */
+    static List<String> changedFiles(String base) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder("git", "diff", "--name-only", "--merge-base", base)
+                .redirectErrorStream(true)
+                .start();
+        List<String> files = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    files.add(line.trim());
+                }
+            }
+        }
+        if (process.waitFor() != 0) {
+            throw new IOException("git diff against " + base + " failed: " + String.join(" ", files));
+        }
+        return files;
+    }
+
+    /**
+     * Generate the impacted suite: -Dimpact.base, -Dimpact.suite and -Dimpact.output
+     */
+    public static void main(String[] args) throws Exception {
+        String base = System.getProperty("impact.base", "origin/main");
+        Path suiteFile = Paths.get(System.getProperty("impact.suite", "src/test/resources/testng.xml"));
+        Path output = Paths.get(System.getProperty("impact.output", "target/testng-impact.xml"));
+
+        XmlSuite suite = new Parser(suiteFile.toString()).parseToList().get(0);
+        DependencyIndex index = DependencyIndex.build(Paths.get("target/classes"), Paths.get("target/test-classes"));
+        TestImpactAnalyzer analyzer = new TestImpactAnalyzer(index);
+
+        List<String> changed = changedFiles(base);
+        logger.info("{} file(s) changed since {}: {}", changed.size(), base, changed);
+        Set<String> affected = analyzer.affectedTests(changed, suiteClasses(suite));
+
+        XmlSuite result = affected == null ? suite : analyzer.restrict(suite, affected);
+        if (affected != null) {
+            // An empty suite is still written so callers can tell "nothing to run" from a failed analysis
+            logger.info("Impacted tests ({}): {}", affected.size(), affected);
+        }
+        if (output.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(output.toAbsolutePath().getParent());
+        }
+        Files.writeString(output, result.toXml());
+        logger.info("Suite written: {} ({} test tag(s))", output, result.getTests().size());
+    }
+}
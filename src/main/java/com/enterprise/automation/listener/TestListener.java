@@ -1,56 +1,174 @@
 package com.enterprise.automation.listener;
 
 import com.enterprise.automation.browser.PlaywrightFactory;
+import com.enterprise.automation.browser.ResourceBlocker;
+import com.enterprise.automation.config.Configuration;
+import com.enterprise.automation.logging.TestLogAppender;
+import com.enterprise.automation.metrics.Metrics;
+import com.enterprise.automation.metrics.MetricsServer;
+import com.enterprise.automation.metrics.ResourceMonitor;
+import com.enterprise.automation.metrics.ResourceSnapshot;
+import com.enterprise.automation.metrics.ResourceSummary;
+import com.enterprise.automation.util.AllureAttachments;
+import com.enterprise.automation.util.ArtifactStore;
+import com.enterprise.automation.util.StepTimer;
 import io.qameta.allure.Allure;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
 import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
 import org.testng.ITestResult;
 
-
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Custom TestNG Listener for test lifecycle events
  */
-public class TestListener implements ITestListener {
+public class TestListener implements ITestListener, IInvokedMethodListener, ISuiteListener {
     private static final Logger logger = LoggerFactory.getLogger(TestListener.class);
+    private static final boolean RESOURCE_MONITORING = Configuration.getInstance().isResourceMonitoringEnabled();
+    private static final ThreadLocal<ResourceSnapshot> startSnapshot = new ThreadLocal<>();
+    private static final AtomicLong testCounter = new AtomicLong();
+
+    @Override
+    public void onStart(ITestContext context) {
+        if (Metrics.isEnabled()) {
+            MetricsServer.start(Configuration.getInstance().getMetricsPort());
+            int planned = 0;
+            for (ITestNGMethod method : context.getAllTestMethods()) {
+                planned += Math.max(1, method.getInvocationCount());
+            }
+            Metrics.addPlannedTests(planned);
+        }
+    }
 
     @Override
     public void onTestStart(ITestResult result) {
+        startLogCapture(result);
+        Metrics.testStarted();
         logger.info("Test started: {}", result.getMethod().getMethodName());
+        ResourceBlocker.resetStats();
+        if (RESOURCE_MONITORING) {
+            startSnapshot.set(ResourceMonitor.capture());
+        }
+    }
+
+    /**
+     * Capture end-of-test resources right after the test method, before teardown closes the page
+     */
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        ResourceSnapshot start = startSnapshot.get();
+        if (!method.isTestMethod() || start == null) {
+            return;
+        }
+        startSnapshot.remove();
+        ResourceSnapshot.ResourceUsage usage = start.until(ResourceMonitor.capture(PlaywrightFactory.getCurrentPage()));
+        Allure.addAttachment("Resource usage", "text/plain", usage.toString(), ".txt");
+        ResourceSummary.record(result.getTestClass().getRealClass().getSimpleName(), usage);
+        logger.debug("Resource usage for {}: {}", result.getMethod().getMethodName(), usage);
     }
 
     @Override
     public void onTestSuccess(ITestResult result) {
         logger.info("Test passed: {}", result.getMethod().getMethodName());
+        Metrics.testPassed();
+        logBlockedResources(result);
+        endLogCapture(result, false);
     }
 
     @Override
     public void onTestFailure(ITestResult result) {
         logger.error("Test failed: {}", result.getMethod().getMethodName());
+        Metrics.testFailed();
+        logBlockedResources(result);
         
-        String screenshotPath = "target/screenshots/test-failure-" + result.getMethod().getMethodName() + ".png";
-        try {
-            FileInputStream screenshotFile = new FileInputStream(screenshotPath);
-            Allure.addAttachment("Failure Screenshot", "image/png", screenshotFile, ".png");
-            screenshotFile.close();
-        } catch (FileNotFoundException e) {
-            logger.warn("Screenshot not found: {}", screenshotPath);
-        } catch (Exception e) {
-            logger.error("Error attaching screenshot: {}", e.getMessage());
+        // Screenshot and trace are written by BaseTest.tearDown; link them instead of reading them into memory
+        String name = result.getMethod().getMethodName();
+        String extension = PlaywrightFactory.getScreenshotExtension();
+        AllureAttachments.attachFile("Failure Screenshot", PlaywrightFactory.getScreenshotMimeType(),
+                "target/screenshots/test-failure-" + name + extension, extension);
+        AllureAttachments.attachFile("Playwright Trace", "application/zip", "target/traces/trace-" + name + ".zip", ".zip");
+        if (!"off".equals(Configuration.getInstance().getVideoMode())) {
+            String videoExtension = PlaywrightFactory.getVideoExtension();
+            AllureAttachments.attachFile("Failure Video", PlaywrightFactory.getVideoMimeType(),
+                    "target/videos/video-" + name + videoExtension, videoExtension);
         }
+        endLogCapture(result, true);
     }
 
     @Override
     public void onTestSkipped(ITestResult result) {
         logger.warn("Test skipped: {}", result.getMethod().getMethodName());
+        Metrics.testSkipped();
+        endLogCapture(result, false);
     }
 
     @Override
     public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
         logger.info("Test passed within success percentage: {}", result.getMethod().getMethodName());
+        Metrics.testPassed();
+        endLogCapture(result, false);
+    }
+
+    @Override
+    public void onFinish(ITestContext context) {
+        if (!"off".equals(Configuration.getInstance().getBlockMode())) {
+            logger.info("Resource blocking saved {} requests / {} bytes so far ({})",
+                    ResourceBlocker.getTotalRequestsSaved(), ResourceBlocker.getTotalBytesSaved(), context.getName());
+        }
+        ResourceSummary.report();
+        ArtifactStore.report();
+        if (!StepTimer.getSteps().isEmpty()) {
+            logger.info("Step timings ({}):{}{}", context.getName(), System.lineSeparator(), StepTimer.summary());
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        MetricsServer.stop();
+    }
+
+    /**
+     * Tag every log event of this test thread with a unique test id and start buffering them in memory
+     */
+    private void startLogCapture(ITestResult result) {
+        String testId = result.getTestClass().getRealClass().getSimpleName() + "."
+                + result.getMethod().getMethodName() + "#" + testCounter.incrementAndGet();
+        result.setAttribute(TestLogAppender.TEST_ID, testId);
+        MDC.put(TestLogAppender.TEST_ID, testId);
+        TestLogAppender.begin(testId);
+    }
+
+    /**
+     * Attach the captured log of a failed test to Allure, drop it otherwise
+     */
+    private void endLogCapture(ITestResult result, boolean attach) {
+        Object testId = result.getAttribute(TestLogAppender.TEST_ID);
+        MDC.remove(TestLogAppender.TEST_ID);
+        if (testId == null) {
+            return;
+        }
+        if (attach) {
+            Allure.addAttachment("Test log", "text/plain", TestLogAppender.end(testId.toString()), ".log");
+        } else {
+            TestLogAppender.discard(testId.toString());
+        }
+    }
+
+    /**
+     * Log requests and bytes saved by resource-blocking fast mode for this test
+     */
+    private void logBlockedResources(ITestResult result) {
+        ResourceBlocker.Stats stats = ResourceBlocker.getStats();
+        if (stats.getRequests() > 0) {
+            logger.info("Resource blocking for {}: {}", result.getMethod().getMethodName(), stats);
+        }
     }
 }
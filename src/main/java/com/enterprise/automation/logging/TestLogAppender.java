@@ -0,0 +1,161 @@
+package com.enterprise.automation.logging;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Property;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory per-test log capture
+ * Events carrying the testId MDC key go into a bounded ring buffer for that test; the buffer is
+ * handed out when the test fails and dropped when it passes, so nothing is written to disk
+ */
+@Plugin(name = "TestLogCapture", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE)
+public class TestLogAppender extends AbstractAppender {
+    public static final String TEST_ID = "testId";
+    /** Logger routed only to this appender (additivity off in log4j2.properties), marks the end of a test's events */
+    public static final String SENTINEL_LOGGER = "TestLogCapture.sentinel";
+    private static final long DRAIN_TIMEOUT_MS = 2_000;
+    private static final Map<String, Ring> buffers = new ConcurrentHashMap<>();
+    private static volatile int maxEvents = 5_000;
+    private static volatile boolean configured;
+
+    private TestLogAppender(String name, Filter filter, Layout<String> layout) {
+        super(name, filter, layout, true, Property.EMPTY_ARRAY);
+    }
+
+    @PluginFactory
+    public static TestLogAppender createAppender(
+            @PluginAttribute("name") String name,
+            @PluginAttribute(value = "maxEvents", defaultInt = 5_000) int maxEventsPerTest,
+            @PluginElement("Layout") Layout<String> layout,
+            @PluginElement("Filter") Filter filter) {
+        maxEvents = maxEventsPerTest;
+        configured = true;
+        return new TestLogAppender(name, filter, layout != null ? layout : PatternLayout.createDefaultLayout());
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        String testId = event.getContextData().getValue(TEST_ID);
+        if (testId == null) {
+            return;
+        }
+        Ring ring = buffers.get(testId);
+        if (ring == null) {
+            return;
+        }
+        if (SENTINEL_LOGGER.equals(event.getLoggerName())) {
+            ring.drained.countDown();
+        } else {
+            ring.add((String) getLayout().toSerializable(event));
+        }
+    }
+
+    /**
+     * Start capturing events logged with the given test id
+     */
+    public static void begin(String testId) {
+        buffers.put(testId, new Ring(maxEvents));
+    }
+
+    /**
+     * Stop capturing and return the captured log, waiting for queued async events first
+     */
+    public static String end(String testId) {
+        Ring ring = buffers.get(testId);
+        if (ring == null) {
+            return "";
+        }
+        awaitDelivery(testId, ring);
+        buffers.remove(testId);
+        return ring.contents();
+    }
+
+    /**
+     * Stop capturing and drop the captured events
+     */
+    public static void discard(String testId) {
+        buffers.remove(testId);
+    }
+
+    /**
+     * Async loggers hand events to the appender on a background thread in order; log a sentinel with the
+     * test's id and wait until the appender received it, so every earlier event of the test is in the ring
+     */
+    private static void awaitDelivery(String testId, Ring ring) {
+        if (!configured) {
+            return;
+        }
+        String previous = ThreadContext.get(TEST_ID);
+        ThreadContext.put(TEST_ID, testId);
+        try {
+            SentinelHolder.LOGGER.info("end of test log");
+        } finally {
+            if (previous != null) {
+                ThreadContext.put(TEST_ID, previous);
+            } else {
+                ThreadContext.remove(TEST_ID);
+            }
+        }
+        try {
+            ring.drained.await(DRAIN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class SentinelHolder {
+        private static final Logger LOGGER = LogManager.getLogger(SENTINEL_LOGGER);
+    }
+
+    /**
+     * Fixed-size buffer keeping the most recent events of one test
+     */
+    private static class Ring {
+        private final String[] lines;
+        private final CountDownLatch drained = new CountDownLatch(1);
+        private int next;
+        private long total;
+
+        Ring(int size) {
+            this.lines = new String[Math.max(1, size)];
+        }
+
+        synchronized void add(String line) {
+            lines[next] = line;
+            next = (next + 1) % lines.length;
+            total++;
+        }
+
+        synchronized String contents() {
+            StringBuilder builder = new StringBuilder();
+            if (total > lines.length) {
+                builder.append("... ").append(total - lines.length).append(" earlier line(s) dropped ...")
+                        .append(System.lineSeparator());
+            }
+            int count = (int) Math.min(total, lines.length);
+            int start = total > lines.length ? next : 0;
+            for (int i = 0; i < count; i++) {
+                builder.append(lines[(start + i) % lines.length]);
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.enterprise.automation.metrics;
+
+import com.enterprise.automation.browser.ContextRecycler;
+import com.enterprise.automation.browser.TeardownReaper;
+import com.enterprise.automation.config.Configuration;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live suite metrics in Prometheus text format
+ * All recording methods are no-ops unless metrics.enabled is true
+ */
+public final class Metrics {
+    private static final boolean ENABLED = Configuration.getInstance().isMetricsEnabled();
+    private static final double[] WAIT_BUCKETS_SECONDS = {0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30};
+
+    private static final LongAdder testsStarted = new LongAdder();
+    private static final LongAdder testsPassed = new LongAdder();
+    private static final LongAdder testsFailed = new LongAdder();
+    private static final LongAdder testsSkipped = new LongAdder();
+    private static final AtomicLong testsPlanned = new AtomicLong();
+    private static final AtomicLong startMillis = new AtomicLong();
+    private static final AtomicInteger browsers = new AtomicInteger();
+    private static final AtomicInteger contexts = new AtomicInteger();
+    private static final AtomicInteger pages = new AtomicInteger();
+    private static final Map<String, Histogram> waits = new ConcurrentHashMap<>();
+
+    private Metrics() {}
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Add tests scheduled by a TestNG test tag; pending queue depth is planned minus started
+     */
+    public static void addPlannedTests(int count) {
+        if (ENABLED) {
+            startMillis.compareAndSet(0, System.currentTimeMillis());
+            testsPlanned.addAndGet(count);
+        }
+    }
+
+    public static void testStarted() {
+        if (ENABLED) {
+            testsStarted.increment();
+        }
+    }
+
+    public static void testPassed() {
+        if (ENABLED) {
+            testsPassed.increment();
+        }
+    }
+
+    public static void testFailed() {
+        if (ENABLED) {
+            testsFailed.increment();
+        }
+    }
+
+    public static void testSkipped() {
+        if (ENABLED) {
+            testsSkipped.increment();
+        }
+    }
+
+    /**
+     * Count a browser until it disconnects
+     */
+    public static void browserOpened(Browser browser) {
+        if (ENABLED) {
+            browsers.incrementAndGet();
+            browser.onDisconnected(closed -> browsers.decrementAndGet());
+        }
+    }
+
+    /**
+     * Count a context until it closes
+     */
+    public static void contextOpened(BrowserContext context) {
+        if (ENABLED) {
+            contexts.incrementAndGet();
+            context.onClose(closed -> contexts.decrementAndGet());
+        }
+    }
+
+    /**
+     * Count a page until it closes
+     */
+    public static void pageOpened(Page page) {
+        if (ENABLED) {
+            pages.incrementAndGet();
+            page.onClose(closed -> pages.decrementAndGet());
+        }
+    }
+
+    /**
+     * Record the duration of a wait, by kind (element, navigation), including waits that timed out
+     */
+    public static void observeWait(String kind, long nanos) {
+        if (ENABLED) {
+            waits.computeIfAbsent(kind, name -> new Histogram()).observe(nanos / 1_000_000_000.0);
+        }
+    }
+
+    /**
+     * Render all metrics in Prometheus text exposition format
+     */
+    public static String scrape() {
+        StringBuilder out = new StringBuilder(2048);
+        long passed = testsPassed.sum();
+        long failed = testsFailed.sum();
+        long skipped = testsSkipped.sum();
+        long completed = passed + failed + skipped;
+        double elapsedSeconds = startMillis.get() == 0 ? 0 : (System.currentTimeMillis() - startMillis.get()) / 1000.0;
+
+        counter(out, "playwright_tests_started_total", "Tests started", testsStarted.sum());
+        out.append("# HELP playwright_tests_completed_total Tests completed by status\n")
+                .append("# TYPE playwright_tests_completed_total counter\n")
+                .append("playwright_tests_completed_total{status=\"passed\"} ").append(passed).append('\n')
+                .append("playwright_tests_completed_total{status=\"failed\"} ").append(failed).append('\n')
+                .append("playwright_tests_completed_total{status=\"skipped\"} ").append(skipped).append('\n');
+        gauge(out, "playwright_tests_completed_per_second", "Completed tests per second since suite start",
+                elapsedSeconds > 0 ? completed / elapsedSeconds : 0);
+        gauge(out, "playwright_tests_failed_per_second", "Failed tests per second since suite start",
+                elapsedSeconds > 0 ? failed / elapsedSeconds : 0);
+        gauge(out, "playwright_tests_pending", "Scheduled tests not started yet",
+                Math.max(0, testsPlanned.get() - testsStarted.sum()));
+        gauge(out, "playwright_browsers_active", "Open browsers", browsers.get());
+        gauge(out, "playwright_contexts_active", "Open browser contexts", contexts.get());
+        gauge(out, "playwright_pages_active", "Open pages", pages.get());
+        counter(out, "playwright_contexts_recycled_total", "Contexts reset and reused for the next test",
+                ContextRecycler.getRecycledCount());
+        counter(out, "playwright_contexts_recreated_total", "Contexts closed because recycling was unsafe",
+                ContextRecycler.getRecreatedCount());
+        gauge(out, "playwright_teardown_pending", "Browser teardowns queued or running on reaper threads",
+                TeardownReaper.getQueueDepth());
+        counter(out, "playwright_teardown_force_killed_total", "Browser teardowns killed after the hard timeout",
+                TeardownReaper.getForceKilledCount());
+
+        out.append("# HELP playwright_wait_seconds Time spent in explicit waits\n")
+                .append("# TYPE playwright_wait_seconds histogram\n");
+        new TreeMap<>(waits).forEach((kind, histogram) -> histogram.render(out, kind));
+        return out.toString();
+    }
+
+    private static void counter(StringBuilder out, String name, String help, long value) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n')
+                .append("# TYPE ").append(name).append(" counter\n")
+                .append(name).append(' ').append(value).append('\n');
+    }
+
+    private static void gauge(StringBuilder out, String name, String help, double value) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n')
+                .append("# TYPE ").append(name).append(" gauge\n")
+                .append(name).append(' ').append(value).append('\n');
+    }
+
+    /**
+     * Fixed-bucket histogram; bucket counts are cumulative only when rendered
+     */
+    private static class Histogram {
+        private final LongAdder[] buckets = new LongAdder[WAIT_BUCKETS_SECONDS.length + 1];
+        private final LongAdder count = new LongAdder();
+        private final DoubleAdder sum = new DoubleAdder();
+
+        Histogram() {
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        void observe(double seconds) {
+            int i = 0;
+            while (i < WAIT_BUCKETS_SECONDS.length && seconds > WAIT_BUCKETS_SECONDS[i]) {
+                i++;
+            }
+            buckets[i].increment();
+            count.increment();
+            sum.add(seconds);
+        }
+
+        void render(StringBuilder out, String kind) {
+            long cumulative = 0;
+            for (int i = 0; i < WAIT_BUCKETS_SECONDS.length; i++) {
+                cumulative += buckets[i].sum();
+                out.append("playwright_wait_seconds_bucket{kind=\"").append(kind).append("\",le=\"")
+                        .append(WAIT_BUCKETS_SECONDS[i]).append("\"} ").append(cumulative).append('\n');
+            }
+            cumulative += buckets[WAIT_BUCKETS_SECONDS.length].sum();
+            out.append("playwright_wait_seconds_bucket{kind=\"").append(kind).append("\",le=\"+Inf\"} ")
+                    .append(cumulative).append('\n')
+                    .append("playwright_wait_seconds_sum{kind=\"").append(kind).append("\"} ").append(sum.sum()).append('\n')
+                    .append("playwright_wait_seconds_count{kind=\"").append(kind).append("\"} ").append(count.sum()).append('\n');
+        }
+    }
+}
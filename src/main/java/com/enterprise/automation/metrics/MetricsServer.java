@@ -0,0 +1,57 @@
+package com.enterprise.automation.metrics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Embedded HTTP server exposing Metrics at /metrics for Prometheus scraping
+ */
+public class MetricsServer {
+    private static final Logger logger = LoggerFactory.getLogger(MetricsServer.class);
+    private static HttpServer server;
+
+    private MetricsServer() {}
+
+    /**
+     * Start the endpoint once per JVM when metrics are enabled
+     */
+    public static synchronized void start(int port) {
+        if (server != null || !Metrics.isEnabled()) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(port), 0);
+            server.createContext("/metrics", MetricsServer::handle);
+            server.start();
+            logger.info("Metrics endpoint started: http://localhost:{}/metrics", server.getAddress().getPort());
+        } catch (IOException e) {
+            logger.warn("Metrics endpoint not started on port {}: {}", port, e.getMessage());
+        }
+    }
+
+    public static synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+            logger.info("Metrics endpoint stopped");
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body = Metrics.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.enterprise.automation.metrics;
+
+import com.enterprise.automation.browser.PlaywrightFactory;
+import com.enterprise.automation.config.Configuration;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Captures resource snapshots for the current test thread
+ * JVM heap from MemoryMXBean, allocations and CPU from ThreadMXBean, browser RSS from /proc
+ * and JS heap from CDP Performance.getMetrics on Chromium
+ */
+public class ResourceMonitor {
+    private static final Logger logger = LoggerFactory.getLogger(ResourceMonitor.class);
+    private static final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private static final java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private static final Path PROC = Paths.get("/proc");
+
+    private ResourceMonitor() {}
+
+    /**
+     * Snapshot without touching the browser page
+     */
+    public static ResourceSnapshot capture() {
+        return capture(null);
+    }
+
+    /**
+     * Snapshot including JS heap metrics of the given page when it runs on Chromium
+     */
+    public static ResourceSnapshot capture(Page page) {
+        long[] rss = browserRss();
+        long[] jsHeap = jsHeap(page);
+        return new ResourceSnapshot(
+                System.currentTimeMillis(),
+                memoryBean.getHeapMemoryUsage().getUsed(),
+                threadAllocatedBytes(),
+                threadBean.isCurrentThreadCpuTimeSupported() ? threadBean.getCurrentThreadCpuTime() : -1,
+                rss[0],
+                (int) rss[1],
+                jsHeap[0],
+                jsHeap[1]);
+    }
+
+    private static long threadAllocatedBytes() {
+        if (threadBean instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported()) {
+            return sunBean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /**
+     * Sum of VmRSS over the driver process of this thread and all its descendants (browser, renderers, GPU)
+     */
+    private static long[] browserRss() {
+        ProcessHandle driver = PlaywrightFactory.getDriverProcess();
+        if (driver == null || !Files.isDirectory(PROC)) {
+            return new long[] {-1, 0};
+        }
+        List<ProcessHandle> processes = Stream.concat(Stream.of(driver), driver.descendants()).toList();
+        long total = 0;
+        for (ProcessHandle process : processes) {
+            total += rssOf(process.pid());
+        }
+        return new long[] {total, processes.size()};
+    }
+
+    private static long rssOf(long pid) {
+        try (Stream<String> lines = Files.lines(PROC.resolve(String.valueOf(pid)).resolve("status"))) {
+            return lines.filter(line -> line.startsWith("VmRSS:"))
+                    .findFirst()
+                    .map(line -> Long.parseLong(line.replaceAll("\\D", "")) * 1024)
+                    .orElse(0L);
+        } catch (IOException | RuntimeException e) {
+            // Process exited between listing and reading
+            return 0;
+        }
+    }
+
+    private static long[] jsHeap(Page page) {
+        if (page == null || page.isClosed() || !"chromium".equalsIgnoreCase(Configuration.getInstance().getBrowser())) {
+            return new long[] {-1, -1};
+        }
+        CDPSession session = null;
+        try {
+            session = page.context().newCDPSession(page);
+            session.send("Performance.enable");
+            JsonObject result = session.send("Performance.getMetrics");
+            long used = -1;
+            long total = -1;
+            for (JsonElement element : result.getAsJsonArray("metrics")) {
+                JsonObject metric = element.getAsJsonObject();
+                switch (metric.get("name").getAsString()) {
+                    case "JSHeapUsedSize" -> used = metric.get("value").getAsLong();
+                    case "JSHeapTotalSize" -> total = metric.get("value").getAsLong();
+                    default -> { }
+                }
+            }
+            return new long[] {used, total};
+        } catch (PlaywrightException e) {
+            logger.debug("JS heap metrics unavailable: {}", e.getMessage());
+            return new long[] {-1, -1};
+        } finally {
+            if (session != null) {
+                try {
+                    session.detach();
+                } catch (PlaywrightException e) {
+                    logger.debug("CDP session already detached");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.enterprise.automation.metrics;
+
+/**
+ * Point-in-time resource usage of the JVM, the current test thread and its browser
+ * Values that could not be measured are -1
+ */
+public record ResourceSnapshot(
+        long timestampMillis,
+        long heapUsedBytes,
+        long threadAllocatedBytes,
+        long threadCpuNanos,
+        long browserRssBytes,
+        int browserProcesses,
+        long jsHeapUsedBytes,
+        long jsHeapTotalBytes) {
+
+    /**
+     * Usage accumulated between two snapshots of the same thread
+     */
+    public ResourceUsage until(ResourceSnapshot end) {
+        return new ResourceUsage(
+                end.timestampMillis - timestampMillis,
+                end.heapUsedBytes,
+                end.heapUsedBytes - heapUsedBytes,
+                delta(threadAllocatedBytes, end.threadAllocatedBytes),
+                delta(threadCpuNanos, end.threadCpuNanos),
+                end.browserRssBytes,
+                end.browserProcesses,
+                end.jsHeapUsedBytes,
+                end.jsHeapTotalBytes);
+    }
+
+    private static long delta(long start, long end) {
+        return start < 0 || end < 0 ? -1 : end - start;
+    }
+
+    /**
+     * Per-test usage: deltas for JVM counters, end values for browser memory
+     */
+    public record ResourceUsage(
+            long durationMillis,
+            long heapUsedBytes,
+            long heapDeltaBytes,
+            long allocatedBytes,
+            long cpuNanos,
+            long browserRssBytes,
+            int browserProcesses,
+            long jsHeapUsedBytes,
+            long jsHeapTotalBytes) {
+
+        @Override
+        public String toString() {
+            return String.join(System.lineSeparator(),
+                    "Duration:            " + durationMillis + " ms",
+                    "JVM heap used:       " + mb(heapUsedBytes) + " (delta " + mb(heapDeltaBytes) + ")",
+                    "Thread allocations:  " + mb(allocatedBytes),
+                    "Thread CPU time:     " + (cpuNanos < 0 ? "n/a" : cpuNanos / 1_000_000 + " ms"),
+                    "Browser RSS:         " + mb(browserRssBytes) + " in " + browserProcesses + " process(es)",
+                    "JS heap used/total:  " + mb(jsHeapUsedBytes) + " / " + mb(jsHeapTotalBytes));
+        }
+
+        static String mb(long bytes) {
+            return bytes == -1 ? "n/a" : String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.enterprise.automation.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-class aggregation of per-test resource usage
+ * Peak browser RSS and JS heap per class tell how many workers fit into a pod's memory limit
+ */
+public class ResourceSummary {
+    private static final Logger logger = LoggerFactory.getLogger(ResourceSummary.class);
+    private static final Path SUMMARY_FILE = Paths.get("target/resource-usage/summary.csv");
+    private static final Map<String, ClassUsage> classes = new ConcurrentHashMap<>();
+
+    private ResourceSummary() {}
+
+    public static void record(String className, ResourceSnapshot.ResourceUsage usage) {
+        classes.computeIfAbsent(className, name -> new ClassUsage()).add(usage);
+    }
+
+    /**
+     * Log the summary and write it as CSV under target/resource-usage
+     */
+    public static void report() {
+        if (classes.isEmpty()) {
+            return;
+        }
+        List<String> lines = new ArrayList<>();
+        lines.add("class,tests,peak_browser_rss_mb,peak_js_heap_mb,peak_jvm_heap_mb,avg_allocated_mb,avg_cpu_ms");
+        new TreeMap<>(classes).forEach((className, usage) -> {
+            String line = usage.toCsv(className);
+            lines.add(line);
+            logger.info("Resource usage: {}", line);
+        });
+        try {
+            Files.createDirectories(SUMMARY_FILE.getParent());
+            Files.write(SUMMARY_FILE, lines);
+        } catch (IOException e) {
+            logger.warn("Failed to write resource summary: {}", e.getMessage());
+        }
+    }
+
+    private static class ClassUsage {
+        private long tests;
+        private long peakRss = -1;
+        private long peakJsHeap = -1;
+        private long peakHeap = -1;
+        private long totalAllocated;
+        private long allocatedSamples;
+        private long totalCpuNanos;
+        private long cpuSamples;
+
+        synchronized void add(ResourceSnapshot.ResourceUsage usage) {
+            tests++;
+            peakRss = Math.max(peakRss, usage.browserRssBytes());
+            peakJsHeap = Math.max(peakJsHeap, usage.jsHeapUsedBytes());
+            peakHeap = Math.max(peakHeap, usage.heapUsedBytes());
+            if (usage.allocatedBytes() >= 0) {
+                totalAllocated += usage.allocatedBytes();
+                allocatedSamples++;
+            }
+            if (usage.cpuNanos() >= 0) {
+                totalCpuNanos += usage.cpuNanos();
+                cpuSamples++;
+            }
+        }
+
+        /**
+         * Values without a single measured sample are written as n/a, not 0
+         */
+        synchronized String toCsv(String className) {
+            return String.join(",", className, String.valueOf(tests),
+                    mb(peakRss), mb(peakJsHeap), mb(peakHeap),
+                    allocatedSamples == 0 ? "n/a" : mb(totalAllocated / allocatedSamples),
+                    cpuSamples == 0 ? "n/a" : String.valueOf(totalCpuNanos / cpuSamples / 1_000_000));
+        }
+
+        private static String mb(long bytes) {
+            return bytes < 0 ? "n/a" : String.format(Locale.ROOT, "%.1f", bytes / (1024.0 * 1024.0));
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package com.enterprise.automation.pages;
 
 import com.enterprise.automation.browser.PlaywrightFactory;
+import com.enterprise.automation.util.AdaptiveTimeouts;
 import com.enterprise.automation.util.AssertionHelper;
+import com.enterprise.automation.util.NavigationWait;
 import com.enterprise.automation.util.WaitHelper;
+import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Base Page Object class with common methods for all page objects
  * Encapsulates Playwright operations and provides a foundation for POM pattern
@@ -14,11 +20,35 @@ import org.slf4j.LoggerFactory;
 public abstract class BasePage {
     protected static final Logger logger = LoggerFactory.getLogger(BasePage.class);
     protected Page page;
+    private final Map<String, Locator> locators = new HashMap<>();
 
     public BasePage() {
         this.page = PlaywrightFactory.getPage();
     }
 
+    /**
+     * Resolve a selector into a Locator once and reuse it for the lifetime of this page object
+     */
+    protected Locator locator(String selector) {
+        return locators.computeIfAbsent(selector, page::locator);
+    }
+
+    /**
+     * Key of a selector in the adaptive timeout history
+     */
+    protected String timeoutKey(String selector) {
+        return getClass().getSimpleName() + " " + selector;
+    }
+
+    /**
+     * Wait for a selector to be visible and return the timeout to use for the action on it
+     */
+    private int waitVisible(String selector, Locator element) {
+        String key = timeoutKey(selector);
+        WaitHelper.waitForElementVisible(element, key);
+        return AdaptiveTimeouts.timeoutFor(key);
+    }
+
     /**
      * Navigate to page URL
      */
@@ -31,8 +61,8 @@ public abstract class BasePage {
      * Click element by selector
      */
     protected void click(String selector) {
-        WaitHelper.waitForElementVisible(selector);
-        page.locator(selector).click();
+        Locator element = locator(selector);
+        element.click(new Locator.ClickOptions().setTimeout(waitVisible(selector, element)));
         logger.debug("Clicked element: {}", selector);
     }
 
@@ -40,8 +70,8 @@ public abstract class BasePage {
      * Type text into input field
      */
     protected void typeText(String selector, String text) {
-        WaitHelper.waitForElementVisible(selector);
-        page.locator(selector).fill(text);
+        Locator element = locator(selector);
+        element.fill(text, new Locator.FillOptions().setTimeout(waitVisible(selector, element)));
         logger.debug("Typed text in element: {}", selector);
     }
 
@@ -49,8 +79,8 @@ public abstract class BasePage {
      * Clear text from input field
      */
     protected void clearText(String selector) {
-        WaitHelper.waitForElementVisible(selector);
-        page.locator(selector).clear();
+        Locator element = locator(selector);
+        element.clear(new Locator.ClearOptions().setTimeout(waitVisible(selector, element)));
         logger.debug("Cleared text from element: {}", selector);
     }
 
@@ -58,8 +88,8 @@ public abstract class BasePage {
      * Get element text
      */
     protected String getText(String selector) {
-        WaitHelper.waitForElementVisible(selector);
-        String text = page.locator(selector).textContent();
+        Locator element = locator(selector);
+        String text = element.textContent(new Locator.TextContentOptions().setTimeout(waitVisible(selector, element)));
         logger.debug("Retrieved text from element: {} = {}", selector, text);
         return text;
     }
@@ -68,8 +98,10 @@ public abstract class BasePage {
      * Get element attribute
      */
     protected String getAttribute(String selector, String attribute) {
-        String value = page.locator(selector).getAttribute(attribute);
-        logger.debug("Retrieved attribute {} from element: {} = {}", attribute, selector, value);
+        String value = locator(selector).getAttribute(attribute);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Retrieved attribute {} from element: {} = {}", attribute, selector, value);
+        }
         return value;
     }
 
@@ -77,21 +109,21 @@ public abstract class BasePage {
      * Check if element is visible
      */
     protected boolean isElementVisible(String selector) {
-        return page.locator(selector).isVisible();
+        return locator(selector).isVisible();
     }
 
     /**
      * Check if element is enabled
      */
     protected boolean isElementEnabled(String selector) {
-        return page.locator(selector).isEnabled();
+        return locator(selector).isEnabled();
     }
 
     /**
      * Select dropdown option by text
      */
     protected void selectDropdownOption(String selector, String optionText) {
-        page.locator(selector).selectOption(optionText);
+        locator(selector).selectOption(optionText);
         logger.debug("Selected dropdown option: {}", optionText);
     }
 
@@ -99,8 +131,10 @@ public abstract class BasePage {
      * Check/Uncheck checkbox
      */
     protected void setCheckbox(String selector, boolean checked) {
-        page.locator(selector).setChecked(checked);
-        logger.debug("Set checkbox {} to: {}", selector, checked);
+        locator(selector).setChecked(checked);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Set checkbox {} to: {}", selector, checked);
+        }
     }
 
     /**
@@ -121,10 +155,31 @@ public abstract class BasePage {
      * Wait for page load
      */
     protected void waitForPageLoad() {
-        WaitHelper.waitForNavigation();
+        WaitHelper.waitForNavigation(defaultNavigationWait());
         logger.info("Page loaded successfully");
     }
 
+    /**
+     * Default wait strategy after actions on this page, override per page object
+     */
+    protected NavigationWait defaultNavigationWait() {
+        return WaitHelper.getDefaultNavigationWait();
+    }
+
+    /**
+     * Run an action and wait with this page's default strategy
+     */
+    protected void performAndWait(String step, Runnable action) {
+        performAndWait(step, defaultNavigationWait(), action);
+    }
+
+    /**
+     * Run an action and wait with a specific strategy, timing the step
+     */
+    protected void performAndWait(String step, NavigationWait wait, Runnable action) {
+        WaitHelper.performAndWait(getClass().getSimpleName() + "." + step, wait, action);
+    }
+
     /**
      * Switch to iframe
      */
@@ -151,7 +206,7 @@ public abstract class BasePage {
      * Scroll element into view
      */
     protected void scrollToElement(String selector) {
-        page.locator(selector).scrollIntoViewIfNeeded();
+        locator(selector).scrollIntoViewIfNeeded();
         logger.debug("Scrolled to element: {}", selector);
     }
 }
@@ -1,10 +1,15 @@
 package com.enterprise.automation.pages;
 
+import com.enterprise.automation.config.Configuration;
 import com.enterprise.automation.util.AssertionHelper;
+import com.enterprise.automation.util.NavigationWait;
 import com.enterprise.automation.util.WaitHelper;
+import com.microsoft.playwright.Locator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.URI;
+
 /**
  * Dashboard Page Object - Advanced example with dynamic elements
  */
@@ -19,10 +24,18 @@ public class DashboardPage extends BasePage {
     private static final String TABLE_ROWS = "table tbody tr";
     private static final String LOAD_MORE_BUTTON = "button[data-action='load-more']";
 
+    // Search results and additional rows arrive through XHR, so that response is the completion signal
+    private static final String DATA_API = Configuration.getInstance().getDashboardDataApi();
+
     public DashboardPage() {
         super();
     }
 
+    @Override
+    protected NavigationWait defaultNavigationWait() {
+        return NavigationWait.forSelector(SIDEBAR);
+    }
+
     /**
      * Verify dashboard title
      */
@@ -32,31 +45,63 @@ public class DashboardPage extends BasePage {
     }
 
     /**
-     * Search for item
+     * Search for item; completes on the search response, so searches without results return as well
      */
     public DashboardPage searchForItem(String searchTerm) {
-        typeText(SEARCH_BOX, searchTerm);
-        WaitHelper.waitForNavigation();
+        performAndWait("searchForItem", NavigationWait.forResponse(DATA_API), () -> typeText(SEARCH_BOX, searchTerm));
         logger.info("Searched for: {}", searchTerm);
         return this;
     }
 
+    /**
+     * Search for item and wait until a row showing the term is rendered
+     * Only for terms that match visible row text; fails after the timeout otherwise
+     */
+    public DashboardPage searchForItemExpectingRows(String searchTerm) {
+        String matchingRow = TABLE_ROWS + ":has-text(" + quote(searchTerm) + ")";
+        performAndWait("searchForItemExpectingRows", NavigationWait.forSelector(matchingRow),
+                () -> typeText(SEARCH_BOX, searchTerm));
+        logger.info("Searched for: {} (matching rows shown)", searchTerm);
+        return this;
+    }
+
     /**
      * Click menu item by text
      */
     public DashboardPage clickMenuItemByText(String menuText) {
-        page.locator(MENU_ITEMS + ":has-text('" + menuText + "')").click();
-        WaitHelper.waitForNavigation();
+        Locator item = locator(MENU_ITEMS).filter(new Locator.FilterOptions().setHasText(menuText));
+        performAndWait("clickMenuItemByText", menuTarget(item), item::click);
         logger.info("Clicked menu item: {}", menuText);
         return this;
     }
 
+    /**
+     * Wait for the URL the menu link points to, which also holds when the item is the current page
+     * Links without a resolvable href (script navigation) fall back to waiting for a URL change
+     */
+    private NavigationWait menuTarget(Locator item) {
+        String href = item.getAttribute("href");
+        if (href == null || href.isBlank() || href.startsWith("#") || href.startsWith("javascript:")) {
+            return NavigationWait.forUrlChange();
+        }
+        try {
+            return NavigationWait.forUrl(URI.create(page.url()).resolve(href.trim()).toString());
+        } catch (IllegalArgumentException e) {
+            return NavigationWait.forUrlChange();
+        }
+    }
+
+    private static String quote(String text) {
+        return "\"" + text.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
     /**
      * Get table row count
      */
     public int getTableRowCount() {
-        WaitHelper.waitForElementVisible(TABLE_ROWS);
-        int count = page.locator(TABLE_ROWS).count();
+        Locator rows = locator(TABLE_ROWS);
+        WaitHelper.waitForElementVisible(rows.first());
+        int count = rows.count();
         logger.info("Table row count: {}", count);
         return count;
     }
@@ -73,8 +118,7 @@ public class DashboardPage extends BasePage {
      * Load more results
      */
     public DashboardPage clickLoadMore() {
-        click(LOAD_MORE_BUTTON);
-        WaitHelper.waitForNavigation();
+        performAndWait("clickLoadMore", NavigationWait.forResponse(DATA_API), () -> click(LOAD_MORE_BUTTON));
         logger.info("Clicked load more button");
         return this;
     }
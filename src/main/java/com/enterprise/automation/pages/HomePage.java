@@ -38,7 +38,7 @@ public class HomePage extends BasePage {
      * Verify home page loaded
      */
     public void verifyHomePageLoaded() {
-        WaitHelper.waitForElementVisible(DASHBOARD_CONTENT);
+        WaitHelper.waitForElementVisible(locator(DASHBOARD_CONTENT));
         AssertionHelper.assertElementVisible(HEADER);
         logger.info("Home page loaded successfully");
     }
@@ -91,7 +91,7 @@ public class LoginPage extends BasePage {
      * Get error message
      */
     public String getErrorMessage() {
-        WaitHelper.waitForElementVisible(ERROR_MESSAGE);
+        WaitHelper.waitForElementVisible(locator(ERROR_MESSAGE));
         return getText(ERROR_MESSAGE);
     }
 
@@ -0,0 +1,77 @@
+package com.enterprise.automation.pages;
+
+import com.enterprise.automation.browser.PlaywrightFactory;
+import com.microsoft.playwright.Page;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-thread page object registry
+ * Returns the existing page object bound to the current Page, so its cached Locators are reused
+ */
+public final class PageObjectRegistry {
+    private static final Logger logger = LoggerFactory.getLogger(PageObjectRegistry.class);
+    private static final ThreadLocal<Map<Class<? extends BasePage>, BasePage>> pageObjects =
+            ThreadLocal.withInitial(HashMap::new);
+    private static final LongAdder created = new LongAdder();
+    private static final LongAdder reused = new LongAdder();
+
+    private PageObjectRegistry() {}
+
+    /**
+     * Get the page object of the given type for the current thread's Page
+     */
+    public static <T extends BasePage> T get(Class<T> type) {
+        Page current = PlaywrightFactory.getPage();
+        Map<Class<? extends BasePage>, BasePage> registry = pageObjects.get();
+
+        BasePage existing = registry.get(type);
+        if (existing != null && existing.page == current) {
+            reused.increment();
+            return type.cast(existing);
+        }
+        if (existing != null) {
+            // Page was replaced (new test or recreated context): every cached instance is stale
+            registry.clear();
+        }
+
+        T pageObject = instantiate(type);
+        registry.put(type, pageObject);
+        created.increment();
+        logger.debug("Page object created: {}", type.getSimpleName());
+        return pageObject;
+    }
+
+    /**
+     * Drop all page objects of the current thread, call when the page is closed
+     */
+    public static void clear() {
+        pageObjects.remove();
+    }
+
+    public static long getCreatedCount() {
+        return created.sum();
+    }
+
+    public static long getReusedCount() {
+        return reused.sum();
+    }
+
+    private static <T extends BasePage> T instantiate(Class<T> type) {
+        try {
+            return type.getDeclaredConstructor().newInstance();
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to create page object: " + type.getName(), e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Page object needs a no-arg constructor: " + type.getName(), e);
+        }
+    }
+}
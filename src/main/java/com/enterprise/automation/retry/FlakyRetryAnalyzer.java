@@ -0,0 +1,41 @@
+package com.enterprise.automation.retry;
+
+import com.enterprise.automation.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+/**
+ * Retries a failed test only when its history shows it is flaky
+ * A test that never passed, or has no history yet, fails immediately instead of wasting grid time
+ */
+public class FlakyRetryAnalyzer implements IRetryAnalyzer {
+    private static final Logger logger = LoggerFactory.getLogger(FlakyRetryAnalyzer.class);
+    private int attempts;
+
+    @Override
+    public boolean retry(ITestResult result) {
+        Configuration config = Configuration.getInstance();
+        String key = TestHistory.key(result.getMethod());
+        if (!config.isRetryEnabled() || attempts >= config.getMaxRetries() || !TestHistory.getInstance().isFlaky(key)) {
+            return false;
+        }
+        attempts++;
+        logger.warn("Retrying flaky test {} (attempt {}/{}, history {})",
+                key, attempts, config.getMaxRetries(), TestHistory.getInstance().getHistory(key));
+        return true;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Whether the test about to run is a retry attempt
+     */
+    public static boolean isRetryAttempt(ITestResult result) {
+        return result.getMethod().getRetryAnalyzer(result) instanceof FlakyRetryAnalyzer analyzer
+                && analyzer.getAttempts() > 0;
+    }
+}
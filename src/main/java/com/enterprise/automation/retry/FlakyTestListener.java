@@ -0,0 +1,131 @@
+package com.enterprise.automation.retry;
+
+import com.enterprise.automation.config.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.IAnnotationTransformer;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.annotations.Test;
+import org.testng.internal.annotations.DisabledRetryAnalyzer;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Wires smart retry into a suite: installs FlakyRetryAnalyzer on every test, records each attempt in
+ * TestHistory and moves chronic flaky tests into a separate quarantine test lane
+ */
+public class FlakyTestListener implements IAnnotationTransformer, IAlterSuiteListener, ITestListener, ISuiteListener {
+    private static final Logger logger = LoggerFactory.getLogger(FlakyTestListener.class);
+    private static final String QUARANTINE_SUFFIX = " - Quarantine";
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        Class<?> current = annotation.getRetryAnalyzerClass();
+        if (current == null || current == DisabledRetryAnalyzer.class) {
+            annotation.setRetryAnalyzer(FlakyRetryAnalyzer.class);
+        }
+    }
+
+    /**
+     * Exclude chronic flaky tests from their test tag and run them in a "<test> - Quarantine" tag of their own
+     */
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!Configuration.getInstance().isRetryEnabled()) {
+            return;
+        }
+        TestHistory history = TestHistory.getInstance();
+        for (XmlSuite suite : suites) {
+            for (XmlTest test : new ArrayList<>(suite.getTests())) {
+                List<XmlClass> quarantined = new ArrayList<>();
+                for (XmlClass xmlClass : test.getXmlClasses()) {
+                    List<XmlInclude> chronic = new ArrayList<>();
+                    for (String methodName : testMethods(xmlClass)) {
+                        if (history.isChronic(TestHistory.key(xmlClass.getSupportClass(), methodName))) {
+                            chronic.add(new XmlInclude(methodName));
+                            exclude(xmlClass, methodName);
+                        }
+                    }
+                    if (!chronic.isEmpty()) {
+                        XmlClass lane = new XmlClass(xmlClass.getName());
+                        lane.setIncludedMethods(chronic);
+                        quarantined.add(lane);
+                    }
+                }
+                if (!quarantined.isEmpty()) {
+                    XmlTest lane = new XmlTest(suite);
+                    lane.setName(test.getName() + QUARANTINE_SUFFIX);
+                    lane.setXmlClasses(quarantined);
+                    lane.setParallel(XmlSuite.ParallelMode.METHODS);
+                    lane.setThreadCount(Configuration.getInstance().getQuarantineThreads());
+                    lane.setParameters(test.getLocalParameters());
+                    logger.warn("Quarantined {} chronic flaky test(s) from '{}'",
+                            quarantined.stream().mapToInt(xmlClass -> xmlClass.getIncludedMethods().size()).sum(),
+                            test.getName());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        TestHistory.getInstance().record(TestHistory.key(result.getMethod()), true);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        TestHistory.getInstance().record(TestHistory.key(result.getMethod()), false);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        // A failed attempt that is retried is reported as skipped
+        if (result.wasRetried()) {
+            TestHistory.getInstance().record(TestHistory.key(result.getMethod()), false);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        TestHistory.getInstance().save();
+    }
+
+    private static List<String> testMethods(XmlClass xmlClass) {
+        List<String> methods = new ArrayList<>();
+        if (!xmlClass.getIncludedMethods().isEmpty()) {
+            xmlClass.getIncludedMethods().forEach(include -> methods.add(include.getName()));
+            return methods;
+        }
+        for (Method method : xmlClass.getSupportClass().getMethods()) {
+            if (method.isAnnotationPresent(Test.class) && !xmlClass.getExcludedMethods().contains(method.getName())) {
+                methods.add(method.getName());
+            }
+        }
+        return methods;
+    }
+
+    private static void exclude(XmlClass xmlClass, String methodName) {
+        if (xmlClass.getIncludedMethods().isEmpty()) {
+            List<String> excluded = new ArrayList<>(xmlClass.getExcludedMethods());
+            excluded.add(methodName);
+            xmlClass.setExcludedMethods(excluded);
+        } else {
+            List<XmlInclude> included = new ArrayList<>(xmlClass.getIncludedMethods());
+            included.removeIf(include -> include.getName().equals(methodName));
+            xmlClass.setIncludedMethods(included);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.enterprise.automation.retry;
+
+import com.enterprise.automation.config.Configuration;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestNGMethod;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * File-based pass/fail history per test method across runs
+ * Each test keeps its last attempts as a string of P (passed) and F (failed), oldest first
+ */
+public final class TestHistory {
+    private static final Logger logger = LoggerFactory.getLogger(TestHistory.class);
+    private static volatile TestHistory instance;
+
+    private final Path file;
+    private final int window;
+    private final int quarantineMinRuns;
+    private final double quarantineFailRate;
+    private final Map<String, String> outcomes = new ConcurrentHashMap<>();
+
+    private TestHistory(Path file, int window, int quarantineMinRuns, double quarantineFailRate) {
+        this.file = file;
+        this.window = window;
+        this.quarantineMinRuns = quarantineMinRuns;
+        this.quarantineFailRate = quarantineFailRate;
+    }
+
+    public static TestHistory getInstance() {
+        if (instance == null) {
+            synchronized (TestHistory.class) {
+                if (instance == null) {
+                    Configuration config = Configuration.getInstance();
+                    TestHistory history = new TestHistory(Paths.get(config.getRetryHistoryFile()),
+                            config.getRetryHistoryWindow(), config.getQuarantineMinRuns(), config.getQuarantineFailRate());
+                    history.load();
+                    instance = history;
+                }
+            }
+        }
+        return instance;
+    }
+
+    public static String key(ITestNGMethod method) {
+        return key(method.getRealClass(), method.getMethodName());
+    }
+
+    public static String key(Class<?> testClass, String methodName) {
+        return testClass.getName() + "#" + methodName;
+    }
+
+    /**
+     * Record the outcome of one attempt
+     */
+    public void record(String key, boolean passed) {
+        outcomes.merge(key, passed ? "P" : "F", (previous, outcome) -> {
+            String updated = previous + outcome;
+            return updated.length() > window ? updated.substring(updated.length() - window) : updated;
+        });
+    }
+
+    /**
+     * Both passes and failures within the window: a failure is likely not a real regression
+     */
+    public boolean isFlaky(String key) {
+        String history = outcomes.getOrDefault(key, "");
+        return history.indexOf('P') >= 0 && history.indexOf('F') >= 0;
+    }
+
+    /**
+     * Flaky often enough to be moved out of the main lane
+     */
+    public boolean isChronic(String key) {
+        String history = outcomes.getOrDefault(key, "");
+        return isFlaky(key) && history.length() >= quarantineMinRuns && failRate(history) >= quarantineFailRate;
+    }
+
+    public String getHistory(String key) {
+        return outcomes.getOrDefault(key, "");
+    }
+
+    /**
+     * Write the history atomically (temp file + move)
+     */
+    public synchronized void save() {
+        if (outcomes.isEmpty()) {
+            return;
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "history", ".tmp");
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(temp.toFile(), new TreeMap<>(outcomes));
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Test history saved: {} tests in {}", outcomes.size(), file);
+        } catch (IOException e) {
+            logger.warn("Failed to save test history {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void load() {
+        if (!Files.isRegularFile(file)) {
+            logger.info("No test history yet: {}", file);
+            return;
+        }
+        try {
+            outcomes.putAll(new ObjectMapper().readValue(file.toFile(), new TypeReference<Map<String, String>>() {}));
+            logger.info("Test history loaded: {} tests from {}", outcomes.size(), file);
+        } catch (IOException e) {
+            logger.warn("Failed to read test history {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static double failRate(String history) {
+        return history.chars().filter(c -> c == 'F').count() / (double) history.length();
+    }
+}
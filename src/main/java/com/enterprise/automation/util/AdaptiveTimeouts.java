@@ -0,0 +1,184 @@
+package com.enterprise.automation.util;
+
+import com.enterprise.automation.config.Configuration;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Per page object and selector wait latency histograms, kept across runs in a JSON file
+ * In adaptive mode (timeout.mode=adaptive) a wait's timeout is timeout.adaptive.multiplier x the historical
+ * p99, clamped to [timeout.adaptive.floor, timeout], once a selector has timeout.adaptive.min.samples samples
+ */
+public class AdaptiveTimeouts {
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveTimeouts.class);
+    private static final long[] BUCKET_BOUNDS_MS = {
+            25, 50, 100, 200, 300, 500, 750, 1000, 1500, 2000, 3000, 5000, 7500, 10000, 15000, 20000, 30000, 60000};
+    // Halve the counts of a selector above this many samples so recent runs dominate
+    private static final long MAX_SAMPLES = 5000;
+
+    private static final Configuration config = Configuration.getInstance();
+    private static final String MODE = config.getTimeoutMode();
+    private static final boolean RECORDING = "learn".equals(MODE) || "adaptive".equals(MODE);
+    private static final boolean ADAPTIVE = "adaptive".equals(MODE);
+    private static final int DEFAULT_TIMEOUT = config.getTimeout();
+    private static final Path HISTORY_FILE = Paths.get(config.getTimeoutHistoryFile());
+    private static final Map<String, AtomicLongArray> histograms = new ConcurrentHashMap<>();
+
+    static {
+        if (RECORDING) {
+            load();
+        }
+    }
+
+    private AdaptiveTimeouts() {}
+
+    /**
+     * Timeout in ms for a wait on the given key ("PageClass selector")
+     */
+    public static int timeoutFor(String key) {
+        if (!ADAPTIVE) {
+            return DEFAULT_TIMEOUT;
+        }
+        long p99 = p99(key);
+        if (p99 < 0) {
+            return DEFAULT_TIMEOUT;
+        }
+        long adaptive = Math.round(p99 * config.getTimeoutMultiplier());
+        return (int) Math.min(DEFAULT_TIMEOUT, Math.max(config.getTimeoutFloor(), adaptive));
+    }
+
+    /**
+     * Record the latency of a successful wait
+     */
+    public static void record(String key, long nanos) {
+        recordMillis(key, nanos / 1_000_000);
+    }
+
+    /**
+     * Record a wait that timed out as a sample at its timeout, so failing waits also raise the p99
+     */
+    public static void recordTimeout(String key, long timeoutMs) {
+        recordMillis(key, timeoutMs);
+    }
+
+    private static void recordMillis(String key, long millis) {
+        if (RECORDING && key != null) {
+            histograms.computeIfAbsent(key, name -> new AtomicLongArray(BUCKET_BOUNDS_MS.length + 1))
+                    .incrementAndGet(bucket(millis));
+        }
+    }
+
+    /**
+     * Upper bound in ms of the bucket holding the 99th percentile, -1 without enough samples
+     */
+    public static long p99(String key) {
+        AtomicLongArray counts = histograms.get(key);
+        if (counts == null) {
+            return -1;
+        }
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        if (total < config.getTimeoutMinSamples()) {
+            return -1;
+        }
+        long rank = (long) Math.ceil(total * 0.99);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return BUCKET_BOUNDS_MS[i];
+            }
+        }
+        return DEFAULT_TIMEOUT;
+    }
+
+    public static boolean isAdaptive() {
+        return ADAPTIVE;
+    }
+
+    /**
+     * Merge this run's samples into the history file
+     */
+    public static synchronized void save() {
+        if (!RECORDING || histograms.isEmpty()) {
+            return;
+        }
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode root = mapper.createObjectNode();
+        root.putPOJO("bucketsMs", BUCKET_BOUNDS_MS);
+        ObjectNode selectors = root.putObject("selectors");
+        new TreeMap<>(histograms).forEach((key, counts) -> {
+            long[] values = new long[counts.length()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = counts.get(i);
+            }
+            selectors.putPOJO(key, values);
+        });
+        try {
+            Path parent = HISTORY_FILE.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "latency", ".tmp");
+            mapper.writerWithDefaultPrettyPrinter().writeValue(temp.toFile(), root);
+            Files.move(temp, HISTORY_FILE, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Selector latency history saved: {} selectors in {}", histograms.size(), HISTORY_FILE);
+        } catch (IOException e) {
+            logger.warn("Failed to save selector latency history {}: {}", HISTORY_FILE, e.getMessage());
+        }
+    }
+
+    private static void load() {
+        if (!Files.isRegularFile(HISTORY_FILE)) {
+            return;
+        }
+        try {
+            JsonNode root = new ObjectMapper().readTree(HISTORY_FILE.toFile());
+            long[] bounds = new ObjectMapper().treeToValue(root.path("bucketsMs"), long[].class);
+            if (!Arrays.equals(bounds, BUCKET_BOUNDS_MS)) {
+                logger.info("Selector latency history uses other buckets, starting over: {}", HISTORY_FILE);
+                return;
+            }
+            root.path("selectors").fields().forEachRemaining(entry -> {
+                long[] counts = new long[BUCKET_BOUNDS_MS.length + 1];
+                long total = 0;
+                for (int i = 0; i < counts.length && i < entry.getValue().size(); i++) {
+                    counts[i] = entry.getValue().get(i).asLong();
+                    total += counts[i];
+                }
+                if (total > MAX_SAMPLES) {
+                    for (int i = 0; i < counts.length; i++) {
+                        counts[i] /= 2;
+                    }
+                }
+                histograms.put(entry.getKey(), new AtomicLongArray(counts));
+            });
+            logger.info("Selector latency history loaded: {} selectors from {}", histograms.size(), HISTORY_FILE);
+        } catch (IOException e) {
+            logger.warn("Failed to read selector latency history {}: {}", HISTORY_FILE, e.getMessage());
+        }
+    }
+
+    private static int bucket(long millis) {
+        for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+            if (millis <= BUCKET_BOUNDS_MS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_BOUNDS_MS.length;
+    }
+}
@@ -0,0 +1,53 @@
+package com.enterprise.automation.util;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.util.PropertiesUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Attach files that already exist on disk to the running Allure test without loading them into memory
+ * The attachment is a hard link to the original file where the file system allows it, a streamed copy otherwise
+ */
+public class AllureAttachments {
+    private static final Logger logger = LoggerFactory.getLogger(AllureAttachments.class);
+    private static final Path RESULTS_DIR = Paths.get(PropertiesUtils.loadAllureProperties()
+            .getProperty("allure.results.directory", "allure-results"));
+
+    private AllureAttachments() {}
+
+    /**
+     * Attach a file by linking it into the results directory; returns false when the file does not exist
+     */
+    public static boolean attachFile(String name, String type, Path file, String extension) {
+        if (!Files.isRegularFile(file)) {
+            logger.warn("Attachment not found: {}", file);
+            return false;
+        }
+        String source = Allure.getLifecycle().prepareAttachment(name, type, extension);
+        Path target = RESULTS_DIR.resolve(source);
+        try {
+            Files.createDirectories(RESULTS_DIR);
+            try {
+                Files.createLink(target, file.toAbsolutePath());
+            } catch (IOException | UnsupportedOperationException e) {
+                // Different file store or no hard link support: stream the file, never buffer it whole
+                Files.copy(file, target);
+            }
+            logger.debug("Attached {} as {}", file, source);
+            return true;
+        } catch (IOException e) {
+            logger.error("Error attaching {}: {}", file, e.getMessage());
+            return false;
+        }
+    }
+
+    public static boolean attachFile(String name, String type, String file, String extension) {
+        return attachFile(name, type, Paths.get(file), extension);
+    }
+}
@@ -0,0 +1,159 @@
+package com.enterprise.automation.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Content-addressed store for test artifacts (screenshots, traces)
+ * Each distinct content is written once as target/artifacts/blobs/<sha256>; the familiar paths under target
+ * (e.g. target/screenshots/x.png) are hard links to the blob, so identical artifacts of different tests
+ * and retries take the disk space of one
+ */
+public class ArtifactStore {
+    private static final Logger logger = LoggerFactory.getLogger(ArtifactStore.class);
+    private static final Path TARGET_DIR = Paths.get("target");
+    private static final Path STORE_DIR = TARGET_DIR.resolve("artifacts");
+    private static final Path BLOB_DIR = STORE_DIR.resolve("blobs");
+    private static final Map<String, String> index = new ConcurrentHashMap<>();
+    private static final LongAdder bytesWritten = new LongAdder();
+    private static final LongAdder bytesSaved = new LongAdder();
+    private static final LongAdder duplicates = new LongAdder();
+
+    private ArtifactStore() {}
+
+    /**
+     * Store content under a path relative to target, e.g. "screenshots/login.png"
+     */
+    public static Path store(String relativePath, byte[] content) {
+        try {
+            Path temp = newTempFile();
+            Files.write(temp, content);
+            return store(relativePath, temp);
+        } catch (IOException e) {
+            logger.error("Failed to store artifact {}: {}", relativePath, e.getMessage());
+            return TARGET_DIR.resolve(relativePath);
+        }
+    }
+
+    /**
+     * Move an existing file into the store and replace it with a link to the blob
+     * Producers must write into a fresh file (see newTempFile()), never in place over a stored path:
+     * stored paths share their blob's content, so an in-place write would change the blob too
+     */
+    public static Path store(String relativePath, Path file) {
+        Path logical = TARGET_DIR.resolve(relativePath);
+        try {
+            String hash = sha256(file);
+            String extension = extension(relativePath);
+            Path blob = BLOB_DIR.resolve(hash.substring(0, 2)).resolve(hash + extension);
+            long size = Files.size(file);
+            Files.createDirectories(blob.getParent());
+            boolean created;
+            try {
+                link(blob, file);
+                bytesWritten.add(size);
+                created = true;
+            } catch (FileAlreadyExistsException e) {
+                // Same content stored before (another test or a retry)
+                duplicates.increment();
+                bytesSaved.add(size);
+                created = false;
+            }
+            // The source file is never left behind as a link to the blob, even when it is the logical path
+            Files.deleteIfExists(file);
+            Files.deleteIfExists(logical);
+            Files.createDirectories(logical.getParent());
+            link(logical, blob);
+            index.put(relativePath, STORE_DIR.relativize(blob).toString());
+            logger.debug("Artifact stored: {} -> {}", relativePath, hash);
+            return logical;
+        } catch (IOException e) {
+            logger.error("Failed to store artifact {}: {}", relativePath, e.getMessage());
+            return Files.exists(file) ? file : logical;
+        }
+    }
+
+    public static long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+
+    public static long getBytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    public static long getDuplicateCount() {
+        return duplicates.sum();
+    }
+
+    /**
+     * Log bytes saved by deduplication and write the path-to-blob index as target/artifacts/index.csv
+     */
+    public static void report() {
+        if (index.isEmpty()) {
+            return;
+        }
+        logger.info("Artifact store: {} artifacts, {} bytes written, {} duplicates, {} bytes saved",
+                index.size(), bytesWritten.sum(), duplicates.sum(), bytesSaved.sum());
+        List<String> lines = new ArrayList<>();
+        lines.add("path,blob");
+        new TreeMap<>(index).forEach((path, blob) -> lines.add(path + "," + blob));
+        try {
+            Files.write(STORE_DIR.resolve("index.csv"), lines);
+        } catch (IOException e) {
+            logger.warn("Failed to write artifact index: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Hard link, or copy where links are not supported; fails with FileAlreadyExistsException if link exists
+     */
+    private static void link(Path link, Path existing) throws IOException {
+        try {
+            Files.createLink(link, existing);
+        } catch (FileAlreadyExistsException e) {
+            throw e;
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(existing, link);
+        }
+    }
+
+    /**
+     * Fresh scratch file inside the store for producers that write to a path, pass it to store() afterwards
+     */
+    public static Path newTempFile() throws IOException {
+        Files.createDirectories(STORE_DIR);
+        return Files.createTempFile(STORE_DIR, "artifact", ".tmp");
+    }
+
+    private static String sha256(Path file) throws IOException {
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), MessageDigest.getInstance("SHA-256"))) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(((DigestInputStream) in).getMessageDigest().digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String extension(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot > path.lastIndexOf('/') ? path.substring(dot) : "";
+    }
+}
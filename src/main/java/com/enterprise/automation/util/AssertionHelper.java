@@ -1,8 +1,11 @@
 package com.enterprise.automation.util;
 
 import com.enterprise.automation.browser.PlaywrightFactory;
+import com.enterprise.automation.visual.VisualBaselines;
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.ScreenshotAnimations;
+import com.microsoft.playwright.options.ScreenshotCaret;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -164,4 +167,35 @@ public class AssertionHelper {
         }
         logger.info("Assertion passed: {}", message);
     }
+
+    /**
+     * Assert element screenshot matches its baseline, named after the selector
+     */
+    public static void assertMatchesBaseline(String selector) {
+        assertMatchesBaseline(selector.replaceAll("[^A-Za-z0-9_-]+", "_").replaceAll("^_+|_+$", ""), selector);
+    }
+
+    /**
+     * Assert element screenshot matches the named baseline
+     */
+    public static void assertMatchesBaseline(String name, String selector) {
+        Page page = PlaywrightFactory.getPage();
+        byte[] screenshot = page.locator(selector).screenshot(new Locator.ScreenshotOptions()
+                .setAnimations(ScreenshotAnimations.DISABLED)
+                .setCaret(ScreenshotCaret.HIDE));
+        VisualBaselines.assertMatches(name, screenshot, page);
+        logger.info("Assertion passed: {} matches baseline {}", selector, name);
+    }
+
+    /**
+     * Assert viewport screenshot matches the named baseline
+     */
+    public static void assertPageMatchesBaseline(String name) {
+        Page page = PlaywrightFactory.getPage();
+        byte[] screenshot = page.screenshot(new Page.ScreenshotOptions()
+                .setAnimations(ScreenshotAnimations.DISABLED)
+                .setCaret(ScreenshotCaret.HIDE));
+        VisualBaselines.assertMatches(name, screenshot, page);
+        logger.info("Assertion passed: page matches baseline {}", name);
+    }
 }
@@ -8,6 +8,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 
 /**
@@ -23,10 +26,16 @@ public class DataReader {
      * Read data from Excel file
      */
     public static List<Map<String, String>> readExcelData(String fileName, String sheetName) throws IOException {
+        return readExcelData(Paths.get(TEST_DATA_DIR, "excel", fileName), sheetName);
+    }
+
+    /**
+     * Read data from an Excel file at the given path
+     */
+    public static List<Map<String, String>> readExcelData(Path filePath, String sheetName) throws IOException {
         List<Map<String, String>> data = new ArrayList<>();
-        String filePath = TEST_DATA_DIR + "/excel/" + fileName;
         
-        try (FileInputStream fis = new FileInputStream(filePath);
+        try (InputStream fis = Files.newInputStream(filePath);
              Workbook workbook = WorkbookFactory.create(fis)) {
             
             Sheet sheet = workbook.getSheet(sheetName);
@@ -59,16 +68,22 @@ public class DataReader {
      * Read data from CSV file
      */
     public static List<Map<String, String>> readCsvData(String fileName) throws IOException {
+        return readCsvData(Paths.get(TEST_DATA_DIR, "csv", fileName));
+    }
+
+    /**
+     * Read data from a CSV file at the given path
+     */
+    public static List<Map<String, String>> readCsvData(Path filePath) throws IOException {
         List<Map<String, String>> data = new ArrayList<>();
-        String filePath = TEST_DATA_DIR + "/csv/" + fileName;
         
-        try (Reader reader = new FileReader(filePath);
+        try (Reader reader = Files.newBufferedReader(filePath);
              CSVParser csvParser = new CSVParser(reader, CSVFormat.DEFAULT.withFirstRecordAsHeader())) {
             
             for (org.apache.commons.csv.CSVRecord record : csvParser) {
                 data.add(record.toMap());
             }
-            logger.info("Read {} rows from CSV file: {}", data.size(), fileName);
+            logger.info("Read {} rows from CSV file: {}", data.size(), filePath.getFileName());
         }
         
         return data;
@@ -77,12 +92,18 @@ public class DataReader {
     /**
      * Read data from JSON file
      */
-    @SuppressWarnings("unchecked")
     public static List<Map<String, Object>> readJsonData(String fileName) throws IOException {
-        String filePath = TEST_DATA_DIR + "/json/" + fileName;
+        return readJsonData(Paths.get(TEST_DATA_DIR, "json", fileName));
+    }
+
+    /**
+     * Read data from a JSON file at the given path
+     */
+    @SuppressWarnings("unchecked")
+    public static List<Map<String, Object>> readJsonData(Path filePath) throws IOException {
         ObjectMapper mapper = new ObjectMapper();
-        List<Map<String, Object>> data = mapper.readValue(new File(filePath), List.class);
-        logger.info("Read {} records from JSON file: {}", data.size(), fileName);
+        List<Map<String, Object>> data = mapper.readValue(filePath.toFile(), List.class);
+        logger.info("Read {} records from JSON file: {}", data.size(), filePath.getFileName());
         return data;
     }
 
@@ -0,0 +1,117 @@
+package com.enterprise.automation.util;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.LoadState;
+import com.microsoft.playwright.options.WaitForSelectorState;
+
+import java.util.function.BiConsumer;
+
+/**
+ * Navigation wait strategies used after page actions
+ * Replaces the blanket NETWORKIDLE wait with the cheapest signal that proves the action finished
+ */
+public final class NavigationWait {
+    private final String description;
+    private final boolean stateBased;
+    private final BiConsumer<Page, Runnable> strategy;
+
+    private NavigationWait(String description, boolean stateBased, BiConsumer<Page, Runnable> strategy) {
+        this.description = description;
+        this.stateBased = stateBased;
+        this.strategy = strategy;
+    }
+
+    /**
+     * Run the action and wait for a response whose URL matches the glob
+     */
+    public static NavigationWait forResponse(String urlGlob) {
+        return new NavigationWait("response " + urlGlob, false,
+                (page, action) -> page.waitForResponse(urlGlob, action));
+    }
+
+    /**
+     * Run the action and wait until the URL differs from the one before the action
+     */
+    public static NavigationWait forUrlChange() {
+        return new NavigationWait("url change", false, (page, action) -> {
+            String before = page.url();
+            action.run();
+            page.waitForURL(url -> !url.equals(before));
+        });
+    }
+
+    /**
+     * Run the action and wait for the URL to match a glob
+     */
+    public static NavigationWait forUrl(String urlGlob) {
+        return new NavigationWait("url " + urlGlob, true, (page, action) -> {
+            action.run();
+            page.waitForURL(urlGlob);
+        });
+    }
+
+    /**
+     * Run the action and wait for a DOM marker to become visible
+     */
+    public static NavigationWait forSelector(String selector) {
+        return new NavigationWait("selector " + selector, true, (page, action) -> {
+            action.run();
+            page.locator(selector).waitFor(new Locator.WaitForOptions().setState(WaitForSelectorState.VISIBLE));
+        });
+    }
+
+    /**
+     * Run the action and wait for a load state
+     */
+    public static NavigationWait forLoadState(LoadState state) {
+        return new NavigationWait("load state " + state, true, (page, action) -> {
+            action.run();
+            page.waitForLoadState(state);
+        });
+    }
+
+    public static NavigationWait domContentLoaded() {
+        return forLoadState(LoadState.DOMCONTENTLOADED);
+    }
+
+    public static NavigationWait networkIdle() {
+        return forLoadState(LoadState.NETWORKIDLE);
+    }
+
+    /**
+     * Run the action without waiting; rely on Playwright auto-waiting of the next step
+     */
+    public static NavigationWait none() {
+        return new NavigationWait("none", true, (page, action) -> action.run());
+    }
+
+    /**
+     * Resolve a strategy name from configuration: domcontentloaded, load, networkidle or none
+     */
+    public static NavigationWait fromName(String name) {
+        return switch (name.toLowerCase()) {
+            case "load" -> forLoadState(LoadState.LOAD);
+            case "networkidle" -> networkIdle();
+            case "none" -> none();
+            default -> domContentLoaded();
+        };
+    }
+
+    /**
+     * Whether the strategy checks a state that still holds after the fact (load state, URL, DOM marker)
+     * Event-based strategies (response, URL change) only work around the action that triggers the event
+     */
+    public boolean isStateBased() {
+        return stateBased;
+    }
+
+    void perform(Page page, Runnable action) {
+        strategy.accept(page, action);
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,97 @@
+package com.enterprise.automation.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-step timing collector shared by all test threads
+ * Records count, total and max duration per step name for suite level summaries
+ */
+public class StepTimer {
+    private static final Logger logger = LoggerFactory.getLogger(StepTimer.class);
+    private static final Map<String, StepStats> steps = new ConcurrentHashMap<>();
+
+    private StepTimer() {}
+
+    /**
+     * Time an action under a step name
+     */
+    public static void time(String step, Runnable action) {
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            record(step, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Record a measured duration in nanoseconds
+     */
+    public static void record(String step, long nanos) {
+        steps.computeIfAbsent(step, name -> new StepStats()).add(nanos);
+        if (logger.isDebugEnabled()) {
+            logger.debug("Step '{}' completed in {} ms", step, nanos / 1_000_000);
+        }
+    }
+
+    /**
+     * Snapshot of all recorded steps ordered by name
+     */
+    public static Map<String, StepStats> getSteps() {
+        return new TreeMap<>(steps);
+    }
+
+    public static void reset() {
+        steps.clear();
+    }
+
+    /**
+     * Human readable summary, one line per step
+     */
+    public static String summary() {
+        StringJoiner joiner = new StringJoiner(System.lineSeparator());
+        getSteps().forEach((step, stats) -> joiner.add(String.format("%-60s count=%d avg=%dms max=%dms",
+                step, stats.getCount(), stats.getAverageMillis(), stats.getMaxMillis())));
+        return joiner.toString();
+    }
+
+    /**
+     * Lock-free aggregate for one step
+     */
+    public static class StepStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void add(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalMillis() {
+            return totalNanos.sum() / 1_000_000;
+        }
+
+        public long getAverageMillis() {
+            long n = count.sum();
+            return n == 0 ? 0 : totalNanos.sum() / n / 1_000_000;
+        }
+
+        public long getMaxMillis() {
+            return maxNanos.get() / 1_000_000;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.enterprise.automation.util;
 
 import com.enterprise.automation.browser.PlaywrightFactory;
 import com.enterprise.automation.config.Configuration;
+import com.enterprise.automation.metrics.Metrics;
 import com.microsoft.playwright.*;
 import com.microsoft.playwright.options.LoadState;
 import com.microsoft.playwright.options.WaitForSelectorState;
@@ -16,6 +17,9 @@ import org.slf4j.LoggerFactory;
 public class WaitHelper {
     private static final Logger logger = LoggerFactory.getLogger(WaitHelper.class);
     private static final int DEFAULT_TIMEOUT = Configuration.getInstance().getTimeout();
+    private static final NavigationWait DEFAULT_NAVIGATION_WAIT =
+            NavigationWait.fromName(Configuration.getInstance().getNavigationWait());
+    private static final boolean ADAPTIVE_GRACE = Configuration.getInstance().isTimeoutAdaptiveGrace();
 
     private WaitHelper() {}
 
@@ -24,11 +28,55 @@ public class WaitHelper {
      */
     public static void waitForElementVisible(String selector) {
         Page page = PlaywrightFactory.getPage();
-        page.waitForSelector(selector);
-        page.locator(selector).waitFor(new Locator.WaitForOptions()
+        waitForElementVisible(page.locator(selector));
+    }
+
+    /**
+     * Wait for an already resolved locator to be visible (single round trip)
+     */
+    public static void waitForElementVisible(Locator locator) {
+        waitForElementVisible(locator, null);
+    }
+
+    /**
+     * Wait for a locator to be visible, using and feeding the latency history of key ("PageClass selector")
+     * A wait missing its adaptive timeout fails at once and is recorded at that timeout, so the p99 still rises;
+     * with timeout.adaptive.grace=true it continues up to the global timeout instead
+     */
+    public static void waitForElementVisible(Locator locator, String key) {
+        int timeout = key == null ? DEFAULT_TIMEOUT : AdaptiveTimeouts.timeoutFor(key);
+        long start = System.nanoTime();
+        try {
+            waitVisible(locator, timeout);
+        } catch (TimeoutError e) {
+            if (timeout >= DEFAULT_TIMEOUT || !ADAPTIVE_GRACE) {
+                AdaptiveTimeouts.recordTimeout(key, timeout);
+                logger.warn("Timeout {}ms exceeded for {} (historical p99 {}ms)",
+                        timeout, key, AdaptiveTimeouts.p99(key));
+                throw e;
+            }
+            logger.warn("Adaptive timeout {}ms exceeded for {} (historical p99 {}ms), waiting up to {}ms",
+                    timeout, key, AdaptiveTimeouts.p99(key), DEFAULT_TIMEOUT);
+            try {
+                waitVisible(locator, DEFAULT_TIMEOUT - timeout);
+            } catch (TimeoutError missing) {
+                AdaptiveTimeouts.recordTimeout(key, DEFAULT_TIMEOUT);
+                throw missing;
+            }
+        } finally {
+            Metrics.observeWait("element", System.nanoTime() - start);
+        }
+        long elapsed = System.nanoTime() - start;
+        if (key != null) {
+            AdaptiveTimeouts.record(key, elapsed);
+        }
+        logger.info("Element visible: {}", locator);
+    }
+
+    private static void waitVisible(Locator locator, int timeout) {
+        locator.waitFor(new Locator.WaitForOptions()
                 .setState(WaitForSelectorState.VISIBLE)
-                .setTimeout(DEFAULT_TIMEOUT));
-        logger.info("Element visible: {}", selector);
+                .setTimeout(timeout));
     }
 
     /**
@@ -48,17 +96,22 @@ public class WaitHelper {
     public static void waitForElementEnabled(String selector) {
         Page page = PlaywrightFactory.getPage();
         page.waitForFunction(
-            "selector => !document.querySelector(selector).disabled",
-            selector
+            "selector => { const el = document.querySelector(selector); return !!el && !el.disabled; }",
+            selector,
+            new Page.WaitForFunctionOptions().setTimeout(DEFAULT_TIMEOUT)
         );
         logger.info("Element enabled: {}", selector);
     }
 
+    /**
+     * Wait for element to be disabled
+     */
     public static void waitForElementDisabled(String selector) {
         Page page = PlaywrightFactory.getPage();
         page.waitForFunction(
-            "selector => document.querySelector(selector).disabled",
-            selector
+            "selector => { const el = document.querySelector(selector); return !!el && el.disabled; }",
+            selector,
+            new Page.WaitForFunctionOptions().setTimeout(DEFAULT_TIMEOUT)
         );
         logger.info("Element disabled: {}", selector);
     }
@@ -73,12 +126,41 @@ public class WaitHelper {
     }
 
     /**
-     * Wait for navigation to complete
+     * Wait for navigation to complete using the configured default (navigation.wait)
      */
     public static void waitForNavigation() {
+        waitForNavigation(DEFAULT_NAVIGATION_WAIT);
+    }
+
+    /**
+     * Wait for navigation to complete using a state-based strategy (load state, URL or DOM marker)
+     * Event-based strategies need the triggering action, use performAndWait for them
+     */
+    public static void waitForNavigation(NavigationWait wait) {
+        if (!wait.isStateBased()) {
+            throw new IllegalArgumentException("Cannot wait for " + wait
+                    + " without the action that triggers it, use performAndWait");
+        }
+        performAndWait("navigation", wait, () -> {});
+    }
+
+    /**
+     * Run an action and wait for it to settle using the given strategy
+     * The elapsed time is recorded in StepTimer under "step [strategy]"
+     */
+    public static void performAndWait(String step, NavigationWait wait, Runnable action) {
         Page page = PlaywrightFactory.getPage();
-        page.waitForLoadState(LoadState.NETWORKIDLE);
-        logger.info("Navigation completed");
+        long start = System.nanoTime();
+        try {
+            StepTimer.time(step + " [" + wait + "]", () -> wait.perform(page, action));
+        } finally {
+            Metrics.observeWait("navigation", System.nanoTime() - start);
+        }
+        logger.info("Navigation completed: {} ({})", step, wait);
+    }
+
+    public static NavigationWait getDefaultNavigationWait() {
+        return DEFAULT_NAVIGATION_WAIT;
     }
 
     /**
@@ -95,7 +177,7 @@ public class WaitHelper {
      */
     public static void waitForFunction(String script, int timeoutMs) {
         Page page = PlaywrightFactory.getPage();
-        page.waitForFunction(script);
+        page.waitForFunction(script, null, new Page.WaitForFunctionOptions().setTimeout(timeoutMs));
         logger.info("Wait for function completed");
     }
 
@@ -0,0 +1,83 @@
+package com.enterprise.automation.visual;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Decoded image as a primitive ARGB raster, one int per pixel in row-major order
+ * Images are decoded once into this form so comparisons never go through BufferedImage per pixel
+ */
+public record Raster(int width, int height, int[] pixels) {
+
+    public static Raster decode(byte[] encoded) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(encoded));
+        if (image == null) {
+            throw new IOException("Unsupported image format");
+        }
+        return of(image);
+    }
+
+    public static Raster of(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        if (image.getType() == BufferedImage.TYPE_INT_ARGB && image.getRaster().getDataBuffer() instanceof DataBufferInt data
+                && data.getNumBanks() == 1 && data.getData().length == width * height) {
+            return new Raster(width, height, data.getData());
+        }
+        return new Raster(width, height, image.getRGB(0, 0, width, height, null, 0, width));
+    }
+
+    public byte[] toPng() throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, width, height, pixels, 0, width);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    /**
+     * 64-bit difference hash: luminance averaged over a 9x8 grid, one bit per horizontal gradient
+     * Near-identical renders have hashes a few bits apart; structurally different ones differ a lot.
+     * Cells are averaged over a sample grid of about 256 points per side, which is plenty for 72 cells
+     */
+    public long differenceHash() {
+        int step = Math.max(1, Math.min(width, height) / 256);
+        long[] sums = new long[72];
+        int[] counts = new int[72];
+        int[] columns = new int[width];
+        int[] columnWidths = new int[9];
+        for (int x = 0; x < width; x += step) {
+            columns[x] = (int) ((long) x * 9 / width);
+            columnWidths[columns[x]]++;
+        }
+        for (int y = 0; y < height; y += step) {
+            int row = (int) ((long) y * 8 / height) * 9;
+            int offset = y * width;
+            for (int x = 0; x < width; x += step) {
+                sums[row + columns[x]] += luminance(pixels[offset + x]);
+            }
+            for (int column = 0; column < 9; column++) {
+                counts[row + column] += columnWidths[column];
+            }
+        }
+        long hash = 0;
+        for (int row = 0; row < 8; row++) {
+            for (int column = 0; column < 8; column++) {
+                int left = row * 9 + column;
+                long leftAverage = counts[left] == 0 ? 0 : sums[left] / counts[left];
+                long rightAverage = counts[left + 1] == 0 ? 0 : sums[left + 1] / counts[left + 1];
+                hash = (hash << 1) | (leftAverage > rightAverage ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    static int luminance(int argb) {
+        // Rec. 601 weights scaled to 256
+        return (((argb >> 16) & 0xFF) * 77 + ((argb >> 8) & 0xFF) * 150 + (argb & 0xFF) * 29) >> 8;
+    }
+}
@@ -0,0 +1,93 @@
+package com.enterprise.automation.visual;
+
+import com.enterprise.automation.config.Configuration;
+import com.enterprise.automation.util.AllureAttachments;
+import com.enterprise.automation.util.ArtifactStore;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.ViewportSize;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Baseline screenshots stored per browser and viewport: <visual.baseline.dir>/<browser>/<width>x<height>/<name>.png
+ * Decoded baselines are cached, so parallel tests comparing against the same baseline decode it once
+ */
+public class VisualBaselines {
+    private static final Logger logger = LoggerFactory.getLogger(VisualBaselines.class);
+    private static final Map<Path, CachedBaseline> cache = new ConcurrentHashMap<>();
+
+    private VisualBaselines() {}
+
+    /**
+     * Compare a PNG screenshot against its baseline; baselines are written only with visual.update=true,
+     * a missing baseline fails with the actual screenshot attached
+     */
+    public static void assertMatches(String name, byte[] screenshot, Page page) {
+        Configuration config = Configuration.getInstance();
+        Path baselinePath = baselinePath(name, page);
+        try {
+            if (config.isVisualUpdate()) {
+                Files.createDirectories(baselinePath.getParent());
+                Files.write(baselinePath, screenshot);
+                cache.remove(baselinePath);
+                logger.warn("Visual baseline written: {}", baselinePath);
+                return;
+            }
+            if (!Files.isRegularFile(baselinePath)) {
+                attachActual(name, screenshot);
+                throw new AssertionError("Visual baseline missing: " + baselinePath
+                        + " (review the attached screenshot and run with -Dvisual.update=true to accept it)");
+            }
+            Raster actual = Raster.decode(screenshot);
+            CachedBaseline baseline = baseline(baselinePath);
+            VisualComparator.Result result = VisualComparator.getInstance().compare(baseline.raster, baseline.hash, actual);
+            if (result.matches()) {
+                logger.info("Visual check passed: {} ({})", name, result.reason());
+                return;
+            }
+            attachActual(name, screenshot);
+            AllureAttachments.attachFile("Visual baseline: " + name, "image/png", baselinePath, ".png");
+            if (result.diff() != null) {
+                Path diffFile = ArtifactStore.store("visual/" + name + "-diff.png", result.diff().toPng());
+                AllureAttachments.attachFile("Visual diff: " + name, "image/png", diffFile, ".png");
+            }
+            throw new AssertionError("Screenshot does not match baseline " + baselinePath + ": " + result.reason());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Visual comparison failed for " + name, e);
+        }
+    }
+
+    private static void attachActual(String name, byte[] screenshot) throws IOException {
+        Path actualFile = ArtifactStore.store("visual/" + name + "-actual.png", screenshot);
+        AllureAttachments.attachFile("Visual actual: " + name, "image/png", actualFile, ".png");
+    }
+
+    public static Path baselinePath(String name, Page page) {
+        Configuration config = Configuration.getInstance();
+        ViewportSize viewport = page.viewportSize();
+        int width = viewport != null ? viewport.width : config.getViewportWidth();
+        int height = viewport != null ? viewport.height : config.getViewportHeight();
+        return Paths.get(config.getVisualBaselineDir(), config.getBrowser(), width + "x" + height, name + ".png");
+    }
+
+    private static CachedBaseline baseline(Path path) throws IOException {
+        long modified = Files.getLastModifiedTime(path).toMillis();
+        CachedBaseline cached = cache.get(path);
+        if (cached == null || cached.modified != modified) {
+            Raster raster = Raster.decode(Files.readAllBytes(path));
+            cached = new CachedBaseline(modified, raster, raster.differenceHash());
+            cache.put(path, cached);
+        }
+        return cached;
+    }
+
+    private record CachedBaseline(long modified, Raster raster, long hash) {}
+}
@@ -0,0 +1,167 @@
+package com.enterprise.automation.visual;
+
+import com.enterprise.automation.config.Configuration;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+/**
+ * Screenshot diff engine working on primitive rasters
+ * Checks run cheapest first: size, exact array equality, then the differing pixel count against the
+ * allowed ratio. The perceptual hash distance only picks how pixels are counted: a distant hash predicts a
+ * mismatch, so the diff image is rendered and counted in one pass; otherwise a tiled per-pixel comparison on
+ * a shared ForkJoinPool stops as soon as the allowed difference is exceeded. Diffs are kept only for mismatches
+ */
+public class VisualComparator {
+    private static final int TILE_SIZE = 128;
+    private static final int DIFF_COLOR = 0xFFFF0000;
+    private static volatile VisualComparator instance;
+
+    private final ForkJoinPool pool;
+    private final int tolerance;
+    private final double maxDiffRatio;
+    private final int maxHashDistance;
+
+    public VisualComparator(int threads, int tolerance, double maxDiffRatio, int maxHashDistance) {
+        this.pool = new ForkJoinPool(threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+        this.tolerance = tolerance;
+        this.maxDiffRatio = maxDiffRatio;
+        this.maxHashDistance = maxHashDistance;
+    }
+
+    public static VisualComparator getInstance() {
+        if (instance == null) {
+            synchronized (VisualComparator.class) {
+                if (instance == null) {
+                    Configuration config = Configuration.getInstance();
+                    instance = new VisualComparator(config.getVisualThreads(), config.getVisualPixelTolerance(),
+                            config.getVisualMaxDiffRatio(), config.getVisualMaxHashDistance());
+                }
+            }
+        }
+        return instance;
+    }
+
+    public Result compare(Raster expected, Raster actual) {
+        return compare(expected, -1, actual);
+    }
+
+    /**
+     * Compare with the baseline's difference hash precomputed (-1 to compute it)
+     */
+    public Result compare(Raster expected, long expectedHash, Raster actual) {
+        if (expected.width() != actual.width() || expected.height() != actual.height()) {
+            return new Result(false, (long) actual.width() * actual.height(), 1.0, -1,
+                    String.format("size %dx%d differs from baseline %dx%d",
+                            actual.width(), actual.height(), expected.width(), expected.height()), null);
+        }
+        if (Arrays.equals(expected.pixels(), actual.pixels())) {
+            return new Result(true, 0, 0, 0, "identical", null);
+        }
+        long total = (long) actual.width() * actual.height();
+        long allowed = (long) Math.floor(total * maxDiffRatio);
+        long baselineHash = expectedHash == -1 ? expected.differenceHash() : expectedHash;
+        int hashDistance = Long.bitCount(baselineHash ^ actual.differenceHash());
+        Raster diff = null;
+        long diffPixels;
+        if (hashDistance > maxHashDistance) {
+            diff = renderDiff(expected, actual);
+            diffPixels = countDiff(diff);
+        } else {
+            diffPixels = countTiles(expected, actual, allowed);
+        }
+        if (diffPixels <= allowed) {
+            return new Result(true, diffPixels, diffPixels / (double) total, hashDistance, "within tolerance", null);
+        }
+        if (diff == null) {
+            diff = renderDiff(expected, actual);
+            diffPixels = countDiff(diff);
+        }
+        return new Result(false, diffPixels, diffPixels / (double) total, hashDistance,
+                String.format("%d pixels (%.4f%%) differ, allowed %d", diffPixels, 100.0 * diffPixels / total, allowed), diff);
+    }
+
+    /**
+     * Count differing pixels tile by tile in parallel; stops early once more than allowed pixels differ
+     */
+    private long countTiles(Raster expected, Raster actual, long allowed) {
+        int width = actual.width();
+        int height = actual.height();
+        int tilesX = (width + TILE_SIZE - 1) / TILE_SIZE;
+        int tilesY = (height + TILE_SIZE - 1) / TILE_SIZE;
+        int[] a = expected.pixels();
+        int[] b = actual.pixels();
+        AtomicLong diffPixels = new AtomicLong();
+        pool.submit(() -> IntStream.range(0, tilesX * tilesY).parallel().forEach(tile -> {
+            if (diffPixels.get() > allowed) {
+                return;
+            }
+            int x0 = (tile % tilesX) * TILE_SIZE;
+            int y0 = (tile / tilesX) * TILE_SIZE;
+            int x1 = Math.min(x0 + TILE_SIZE, width);
+            int y1 = Math.min(y0 + TILE_SIZE, height);
+            long local = 0;
+            for (int y = y0; y < y1; y++) {
+                int offset = y * width;
+                for (int i = offset + x0; i < offset + x1; i++) {
+                    if (a[i] != b[i] && differs(a[i], b[i])) {
+                        local++;
+                    }
+                }
+                if (local > 0 && diffPixels.get() + local > allowed) {
+                    break;
+                }
+            }
+            if (local > 0) {
+                diffPixels.addAndGet(local);
+            }
+        })).join();
+        return diffPixels.get();
+    }
+
+    /**
+     * Faded grayscale copy of the actual image with differing pixels in red
+     */
+    private Raster renderDiff(Raster expected, Raster actual) {
+        int[] a = expected.pixels();
+        int[] b = actual.pixels();
+        int[] out = new int[b.length];
+        int width = actual.width();
+        pool.submit(() -> IntStream.range(0, actual.height()).parallel().forEach(y -> {
+            for (int i = y * width; i < (y + 1) * width; i++) {
+                if (a[i] != b[i] && differs(a[i], b[i])) {
+                    out[i] = DIFF_COLOR;
+                } else {
+                    int gray = 170 + Raster.luminance(b[i]) / 3;
+                    out[i] = 0xFF000000 | gray << 16 | gray << 8 | gray;
+                }
+            }
+        })).join();
+        return new Raster(width, actual.height(), out);
+    }
+
+    private static long countDiff(Raster diff) {
+        long count = 0;
+        for (int pixel : diff.pixels()) {
+            if (pixel == DIFF_COLOR) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private boolean differs(int expected, int actual) {
+        return Math.abs(((expected >>> 24) & 0xFF) - ((actual >>> 24) & 0xFF)) > tolerance
+                || Math.abs(((expected >> 16) & 0xFF) - ((actual >> 16) & 0xFF)) > tolerance
+                || Math.abs(((expected >> 8) & 0xFF) - ((actual >> 8) & 0xFF)) > tolerance
+                || Math.abs((expected & 0xFF) - (actual & 0xFF)) > tolerance;
+    }
+
+    /**
+     * Outcome of a comparison; diff is only rendered for mismatches of equally sized images
+     */
+    public record Result(boolean matches, long diffPixels, double diffRatio, int hashDistance, String reason,
+                         Raster diff) {}
+}
@@ -0,0 +1,18 @@
+package com.enterprise.automation.watchdog;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum run time of a test method in milliseconds, enforced by the TestWatchdog
+ * On a class it applies to every test method without its own deadline; overrides watchdog.timeout.ms
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Inherited
+public @interface Deadline {
+    long value();
+}
@@ -0,0 +1,241 @@
+package com.enterprise.automation.watchdog;
+
+import com.enterprise.automation.browser.PlaywrightFactory;
+import com.enterprise.automation.config.Configuration;
+import com.enterprise.automation.util.AllureAttachments;
+import com.enterprise.automation.util.ArtifactStore;
+import com.microsoft.playwright.Page;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.lang.management.LockInfo;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MonitorInfo;
+import java.lang.management.ThreadInfo;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-test deadline enforcement so a hung page cannot hold a worker until the pipeline timeout
+ * A test running longer than its deadline (@Deadline, else watchdog.timeout.ms) gets a thread dump and a
+ * screenshot captured, the driver and browser processes of its worker killed so the blocked Playwright call
+ * fails, and is marked failed; the worker continues with a fresh Playwright instance
+ */
+public class TestWatchdog implements IInvokedMethodListener {
+    private static final Logger logger = LoggerFactory.getLogger(TestWatchdog.class);
+    private static final long SCREENSHOT_TIMEOUT_MS = 5_000;
+    private static final long RELEASE_GRACE_MS = 5_000;
+    private static final ThreadLocal<Watch> watches = new ThreadLocal<>();
+    private static final ScheduledExecutorService scheduler = createScheduler();
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult result) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        long deadline = deadlineOf(result);
+        if (deadline <= 0) {
+            return;
+        }
+        Watch watch = new Watch(Thread.currentThread(), testName(result), deadline);
+        // Handle each expiry on its own thread, so one hung test never delays stopping another
+        watch.timer = scheduler.schedule(() -> Thread.ofVirtual().name("test-watchdog-" + watch.test)
+                .start(() -> expire(watch)), deadline, TimeUnit.MILLISECONDS);
+        watches.set(watch);
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        Watch watch = watches.get();
+        if (!method.isTestMethod() || watch == null) {
+            return;
+        }
+        watches.remove();
+        watch.timer.cancel(false);
+        if (watch.state.compareAndSet(Watch.ARMED, Watch.DONE)) {
+            return;
+        }
+        // The deadline passed: wait until the watchdog captured the evidence and unblocked this thread
+        watch.released.countDown();
+        try {
+            watch.handled.await();
+        } catch (InterruptedException e) {
+            logger.debug("Interrupted while waiting for the watchdog");
+        }
+        Thread.interrupted();
+        PlaywrightFactory.discardThreadPlaywright();
+
+        TimeoutException failure = new TimeoutException(String.format(
+                "Test %s exceeded its %d ms deadline and was stopped by the watchdog", watch.test, watch.deadlineMs));
+        if (result.getThrowable() != null) {
+            failure.initCause(result.getThrowable());
+        }
+        result.setStatus(ITestResult.FAILURE);
+        result.setThrowable(failure);
+        if (watch.threadDump != null) {
+            AllureAttachments.attachFile("Watchdog Thread Dump", "text/plain", watch.threadDump, ".txt");
+        }
+        if (watch.screenshot != null) {
+            AllureAttachments.attachFile("Watchdog Screenshot", "image/png", watch.screenshot, ".png");
+        }
+    }
+
+    /**
+     * Runs on the watchdog thread once a test overruns its deadline
+     */
+    private static void expire(Watch watch) {
+        if (!watch.state.compareAndSet(Watch.ARMED, Watch.EXPIRED)) {
+            return;
+        }
+        try {
+            logger.error("Test {} exceeded its {} ms deadline on {}, stopping it",
+                    watch.test, watch.deadlineMs, watch.worker.getName());
+            watch.threadDump = ArtifactStore.store("watchdog/" + watch.test + "-threads.txt",
+                    threadDump(watch.worker).getBytes(StandardCharsets.UTF_8));
+            watch.screenshot = screenshot(watch);
+            if (!PlaywrightFactory.killPlaywrightOf(watch.worker)) {
+                logger.warn("No browser to kill for {}, interrupting the worker", watch.test);
+                watch.worker.interrupt();
+            } else if (!watch.released.await(RELEASE_GRACE_MS, TimeUnit.MILLISECONDS)) {
+                // Blocked outside Playwright, e.g. in a sleep or an HTTP call
+                watch.worker.interrupt();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            logger.error("Watchdog failed to stop {}: {}", watch.test, e.getMessage());
+        } finally {
+            watch.handled.countDown();
+        }
+    }
+
+    /**
+     * Best effort: the page belongs to the blocked worker, so the call runs on its own thread with a bounded wait;
+     * the instance is killed and discarded right after, whatever state this leaves it in
+     */
+    private static Path screenshot(Watch watch) {
+        Page page = PlaywrightFactory.getPageOf(watch.worker);
+        if (page == null) {
+            return null;
+        }
+        CompletableFuture<byte[]> capture = new CompletableFuture<>();
+        Thread.ofVirtual().name("watchdog-screenshot").start(() -> {
+            try {
+                capture.complete(page.screenshot(new Page.ScreenshotOptions().setTimeout(SCREENSHOT_TIMEOUT_MS)));
+            } catch (RuntimeException e) {
+                capture.completeExceptionally(e);
+            }
+        });
+        try {
+            return ArtifactStore.store("watchdog/" + watch.test + ".png",
+                    capture.get(SCREENSHOT_TIMEOUT_MS + 1_000, TimeUnit.MILLISECONDS));
+        } catch (Exception e) {
+            logger.warn("Watchdog screenshot of {} unavailable: {}", watch.test, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Full stacks of all threads, the stuck worker first
+     */
+    static String threadDump(Thread worker) {
+        StringBuilder out = new StringBuilder();
+        ThreadInfo[] threads = ManagementFactory.getThreadMXBean().dumpAllThreads(true, true);
+        for (ThreadInfo info : threads) {
+            if (info.getThreadId() == worker.threadId()) {
+                append(out, info);
+            }
+        }
+        for (ThreadInfo info : threads) {
+            if (info.getThreadId() != worker.threadId()) {
+                append(out, info);
+            }
+        }
+        return out.toString();
+    }
+
+    private static void append(StringBuilder out, ThreadInfo info) {
+        out.append('"').append(info.getThreadName()).append("\" #").append(info.getThreadId())
+                .append(' ').append(info.getThreadState());
+        if (info.getLockName() != null) {
+            out.append(" on ").append(info.getLockName());
+        }
+        if (info.getLockOwnerName() != null) {
+            out.append(" owned by \"").append(info.getLockOwnerName()).append('"');
+        }
+        out.append(System.lineSeparator());
+        StackTraceElement[] stack = info.getStackTrace();
+        for (int i = 0; i < stack.length; i++) {
+            out.append("\tat ").append(stack[i]).append(System.lineSeparator());
+            for (MonitorInfo monitor : info.getLockedMonitors()) {
+                if (monitor.getLockedStackDepth() == i) {
+                    out.append("\t- locked ").append(monitor).append(System.lineSeparator());
+                }
+            }
+        }
+        for (LockInfo lock : info.getLockedSynchronizers()) {
+            out.append("\t- holds ").append(lock).append(System.lineSeparator());
+        }
+        out.append(System.lineSeparator());
+    }
+
+    /**
+     * Deadline annotation of the method, then of the class, then watchdog.timeout.ms; 0 disables the watchdog
+     */
+    static long deadlineOf(ITestResult result) {
+        Method method = result.getMethod().getConstructorOrMethod().getMethod();
+        if (method != null && method.isAnnotationPresent(Deadline.class)) {
+            return method.getAnnotation(Deadline.class).value();
+        }
+        Deadline classDeadline = result.getTestClass().getRealClass().getAnnotation(Deadline.class);
+        if (classDeadline != null) {
+            return classDeadline.value();
+        }
+        return Configuration.getInstance().getWatchdogTimeoutMs();
+    }
+
+    private static String testName(ITestResult result) {
+        return result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().daemon().name("test-watchdog").factory());
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
+    }
+
+    private static class Watch {
+        private static final int ARMED = 0;
+        private static final int DONE = 1;
+        private static final int EXPIRED = 2;
+
+        private final Thread worker;
+        private final String test;
+        private final long deadlineMs;
+        private final AtomicInteger state = new AtomicInteger(ARMED);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private final CountDownLatch handled = new CountDownLatch(1);
+        private ScheduledFuture<?> timer;
+        private volatile Path threadDump;
+        private volatile Path screenshot;
+
+        Watch(Thread worker, String test, long deadlineMs) {
+            this.worker = worker;
+            this.test = test;
+            this.deadlineMs = deadlineMs;
+        }
+    }
+}
@@ -2,6 +2,9 @@ package com.enterprise.automation.tests;
 
 import com.enterprise.automation.browser.BrowserContextManager;
 import com.enterprise.automation.browser.PlaywrightFactory;
+import com.enterprise.automation.health.EnvironmentIndependent;
+import com.enterprise.automation.browser.RouteRegistry;
+import com.enterprise.automation.browser.Scenario;
 import com.microsoft.playwright.BrowserContext;
 import io.qameta.allure.*;
 import org.testng.annotations.Test;
@@ -10,6 +13,7 @@ import org.testng.annotations.Test;
  * Advanced Playwright Testing Patterns
  */
 @Feature("Advanced Testing")
+@EnvironmentIndependent
 public class AdvancedTests extends BaseTest {
 
     @Test(description = "Test multi-context scenarios")
@@ -31,18 +35,38 @@ public class AdvancedTests extends BaseTest {
         logger.info("All contexts cleared");
     }
 
+    @Test(description = "Test concurrent multi-user scenario")
+    @Story("Advanced Context Management")
+    @Severity(SeverityLevel.MINOR)
+    public void testConcurrentMultiUserScenario() {
+        Scenario.create("admin-and-user")
+                .actor("admin", admin -> {
+                    admin.page().navigate("https://example.com");
+                    admin.signal("admin-ready", admin.page().title());
+                    admin.barrier("both-loaded");
+                })
+                .actor("user", user -> {
+                    Object adminTitle = user.await("admin-ready");
+                    user.page().navigate("https://example.com");
+                    user.barrier("both-loaded");
+                    logger.info("User saw admin page title: {}", adminTitle);
+                })
+                .run();
+    }
+
     @Test(description = "Test network interception")
     @Story("Network Mocking")
     @Severity(SeverityLevel.CRITICAL)
     public void testNetworkInterception() {
-        BrowserContextManager.mockApiResponse(
+        RouteRegistry.RouteRule usersMock = BrowserContextManager.mockApiResponse(
                 "https://api.example.com/users",
                 "{\"data\": [{\"id\": 1, \"name\": \"Test User\"}]}",
                 200
         );
         
         PlaywrightFactory.getPage().navigate("https://example.com");
-        logger.info("Network interception test completed");
+        logger.info("Network interception test completed, mock hits: {}", usersMock.getHitCount());
+        BrowserContextManager.removeRoute("https://api.example.com/users");
     }
 
     @Test(description = "Test screenshot and trace recording")
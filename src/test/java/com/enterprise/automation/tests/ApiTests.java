@@ -1,6 +1,7 @@
 package com.enterprise.automation.tests;
 
 import com.enterprise.automation.config.Configuration;
+import com.enterprise.automation.fixture.Fixture;
 import io.qameta.allure.*;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
@@ -18,6 +19,8 @@ import static org.hamcrest.Matchers.*;
 @Feature("API")
 public class ApiTests extends BaseTest {
 
+    private static final Fixture<String> AUTH_TOKEN = Fixture.suite("apiAuthToken", ApiTests::login).readOnly();
+
     @BeforeClass
     public void setUpApi() {
         RestAssured.baseURI = Configuration.getInstance().getApiBaseUrl();
@@ -30,7 +33,7 @@ public class ApiTests extends BaseTest {
     public void testGetUsersList() {
         Response response = given()
                 .contentType(ContentType.JSON)
-                .header("Authorization", "Bearer " + getAuthToken())
+                .header("Authorization", "Bearer " + AUTH_TOKEN.get())
                 .when()
                 .get("/users")
                 .then()
@@ -56,7 +59,7 @@ public class ApiTests extends BaseTest {
 
         Response response = given()
                 .contentType(ContentType.JSON)
-                .header("Authorization", "Bearer " + getAuthToken())
+                .header("Authorization", "Bearer " + AUTH_TOKEN.get())
                 .body(requestBody)
                 .when()
                 .post("/users")
@@ -87,9 +90,9 @@ public class ApiTests extends BaseTest {
     }
 
     /**
-     * Get auth token for API requests
+     * Log in through the API and return the auth token
      */
-    private String getAuthToken() {
+    private static String login() {
         String requestBody = "{\n" +
                 "  \"email\": \"api@example.com\",\n" +
                 "  \"password\": \"ApiPass123\"\n" +
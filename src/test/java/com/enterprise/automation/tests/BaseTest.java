@@ -1,6 +1,12 @@
 package com.enterprise.automation.tests;
 
 import com.enterprise.automation.browser.PlaywrightFactory;
+import com.enterprise.automation.fixture.Fixtures;
+import com.enterprise.automation.health.EnvironmentCircuitBreaker;
+import com.enterprise.automation.health.EnvironmentIndependent;
+import com.enterprise.automation.pages.PageObjectRegistry;
+import com.enterprise.automation.retry.FlakyRetryAnalyzer;
+import com.enterprise.automation.util.AdaptiveTimeouts;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.testng.ITestResult;
@@ -15,31 +21,53 @@ public abstract class BaseTest {
     @BeforeSuite(alwaysRun = true)
     public void setUpSuite() {
         logger.info("=== Test Suite Started ===");
-        PlaywrightFactory.initPlaywright();
     }
 
     @AfterSuite(alwaysRun = true)
     public void tearDownSuite() {
         logger.info("=== Test Suite Completed ===");
+        Fixtures.endSuite();
         PlaywrightFactory.closePlaywright();
+        AdaptiveTimeouts.save();
     }
 
     @BeforeMethod(alwaysRun = true)
-    public void setUp(java.lang.reflect.Method method) {
-        logger.info("Starting test: {}", method.getName());
+    public void setUp(java.lang.reflect.Method method, ITestResult result) {
+        boolean retryAttempt = FlakyRetryAnalyzer.isRetryAttempt(result);
+        PlaywrightFactory.setRetryAttempt(retryAttempt);
+        logger.info("Starting test: {}{}", method.getName(), retryAttempt ? " (retry)" : "");
+        Fixtures.beginTest(getClass());
+        if (usesEnvironment()) {
+            EnvironmentCircuitBreaker.getInstance().checkAvailable();
+        }
     }
 
     @AfterMethod(alwaysRun = true)
     public void tearDown(ITestResult result) {
         logger.info("Test result: {} - Status: {}", result.getName(), 
                 result.isSuccess() ? "PASSED" : "FAILED");
+        if (usesEnvironment()) {
+            EnvironmentCircuitBreaker.getInstance().record(result);
+        }
         
         if (!result.isSuccess()) {
             PlaywrightFactory.takeScreenshot("test-failure-" + result.getName());
             PlaywrightFactory.saveTrace("trace-" + result.getName());
+            PlaywrightFactory.saveVideo("video-" + result.getName());
             logger.error("Test failed: {}. Error: {}", result.getName(), result.getThrowable());
         }
         
-        PlaywrightFactory.closeAll();
+        Fixtures.endTest();
+        PageObjectRegistry.clear();
+        PlaywrightFactory.releaseAll();
+    }
+
+    private boolean usesEnvironment() {
+        return !getClass().isAnnotationPresent(EnvironmentIndependent.class);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void tearDownClass() {
+        Fixtures.endClass(getClass());
     }
 }
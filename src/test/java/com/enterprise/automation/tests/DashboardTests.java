@@ -1,8 +1,11 @@
 package com.enterprise.automation.tests;
 
+import com.enterprise.automation.browser.PlaywrightFactory;
+import com.enterprise.automation.fixture.Fixture;
 import com.enterprise.automation.pages.DashboardPage;
 import com.enterprise.automation.pages.HomePage;
 import com.enterprise.automation.pages.LoginPage;
+import com.enterprise.automation.pages.PageObjectRegistry;
 import io.qameta.allure.*;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -13,19 +16,30 @@ import org.testng.annotations.Test;
 @Feature("Dashboard")
 public class DashboardTests extends BaseTest {
 
+    /**
+     * Log in once per suite and share the session (cookies and local storage) with every test thread
+     */
+    private static final Fixture<String> LOGGED_IN_SESSION = Fixture.suite("loggedInSession", () -> {
+        LoginPage loginPage = PageObjectRegistry.get(LoginPage.class);
+        loginPage.navigateToLoginPage();
+        loginPage.login("user@example.com", "Password123");
+        PageObjectRegistry.get(HomePage.class).verifyHomePageLoaded();
+        return PlaywrightFactory.getContext().storageState();
+    }).readOnly();
+
     private HomePage homePage;
     private DashboardPage dashboardPage;
 
     @BeforeMethod(alwaysRun = true)
     public void loginBeforeTest() {
-        LoginPage loginPage = new LoginPage();
-        loginPage.navigateToLoginPage();
-        loginPage.login("user@example.com", "Password123");
-        
-        homePage = new HomePage();
+        // The thread that created the session is logged in already; others start their context from it
+        PlaywrightFactory.useStorageState(LOGGED_IN_SESSION.get());
+
+        homePage = PageObjectRegistry.get(HomePage.class);
+        homePage.navigateToHomePage();
         homePage.verifyHomePageLoaded();
-        
-        dashboardPage = new DashboardPage();
+
+        dashboardPage = PageObjectRegistry.get(DashboardPage.class);
         logger.info("User logged in successfully");
     }
 
@@ -3,6 +3,7 @@ package com.enterprise.automation.tests;
 import com.enterprise.automation.config.Configuration;
 import com.enterprise.automation.pages.HomePage;
 import com.enterprise.automation.pages.LoginPage;
+import com.enterprise.automation.pages.PageObjectRegistry;
 import com.enterprise.automation.util.TestDataGenerator;
 import io.qameta.allure.*;
 import org.testng.annotations.DataProvider;
@@ -18,12 +19,12 @@ public class LoginTests extends BaseTest {
     @Story("User Login")
     @Severity(SeverityLevel.CRITICAL)
     public void testLoginWithValidCredentials() {
-        LoginPage loginPage = new LoginPage();
+        LoginPage loginPage = PageObjectRegistry.get(LoginPage.class);
         loginPage.navigateToLoginPage();
         loginPage.verifyLoginPageElements();
         loginPage.login("user@example.com", "Password123");
         
-        HomePage homePage = new HomePage();
+        HomePage homePage = PageObjectRegistry.get(HomePage.class);
         homePage.verifyHomePageLoaded();
         homePage.verifyUserLoggedIn("User");
         
@@ -34,7 +35,7 @@ public class LoginTests extends BaseTest {
     @Story("User Login")
     @Severity(SeverityLevel.CRITICAL)
     public void testLoginWithInvalidCredentials() {
-        LoginPage loginPage = new LoginPage();
+        LoginPage loginPage = PageObjectRegistry.get(LoginPage.class);
         loginPage.navigateToLoginPage();
         loginPage.login("invalid@example.com", "WrongPassword");
         
@@ -46,14 +47,14 @@ public class LoginTests extends BaseTest {
     @Story("User Login")
     @Severity(SeverityLevel.MINOR)
     public void testRememberMeFunctionality() {
-        LoginPage loginPage = new LoginPage();
+        LoginPage loginPage = PageObjectRegistry.get(LoginPage.class);
         loginPage.navigateToLoginPage();
         loginPage.setRememberMe(true);
         loginPage.enterEmail("user@example.com");
         loginPage.enterPassword("Password123");
         loginPage.clickLoginButton();
         
-        HomePage homePage = new HomePage();
+        HomePage homePage = PageObjectRegistry.get(HomePage.class);
         homePage.verifyHomePageLoaded();
         logger.info("Test passed: Remember me functionality verified");
     }
@@ -62,12 +63,12 @@ public class LoginTests extends BaseTest {
     @Story("User Login")
     @Severity(SeverityLevel.CRITICAL)
     public void testLoginWithDifferentUsers(String email, String password, boolean shouldSucceed) {
-        LoginPage loginPage = new LoginPage();
+        LoginPage loginPage = PageObjectRegistry.get(LoginPage.class);
         loginPage.navigateToLoginPage();
         loginPage.login(email, password);
         
         if (shouldSucceed) {
-            HomePage homePage = new HomePage();
+            HomePage homePage = PageObjectRegistry.get(HomePage.class);
             homePage.verifyHomePageLoaded();
             logger.info("Test passed: Login successful for {}", email);
         } else {
@@ -97,7 +98,7 @@ public class LoginTests extends BaseTest {
         
         // Note: This test demonstrates data generation capability
         // In production, use actual generated test data from API response
-        LoginPage loginPage = new LoginPage();
+        LoginPage loginPage = PageObjectRegistry.get(LoginPage.class);
         loginPage.navigateToLoginPage();
         loginPage.verifyLoginPageElements();
     }
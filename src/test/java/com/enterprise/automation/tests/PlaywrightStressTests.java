@@ -0,0 +1,53 @@
+package com.enterprise.automation.tests;
+
+import com.enterprise.automation.browser.PlaywrightFactory;
+import com.enterprise.automation.health.EnvironmentIndependent;
+import com.microsoft.playwright.Page;
+import io.qameta.allure.*;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Stress test for the Playwright-per-thread driver model
+ * Runs full browser/context/page lifecycles on 16 threads and reports throughput
+ */
+@Feature("Framework")
+@EnvironmentIndependent
+public class PlaywrightStressTests extends BaseTest {
+    private static final int THREADS = 16;
+    private static final int INVOCATIONS = 128;
+
+    private final AtomicInteger completed = new AtomicInteger();
+    private long startNanos;
+
+    @BeforeClass(alwaysRun = true)
+    public void startClock() {
+        startNanos = System.nanoTime();
+    }
+
+    @Test(description = "Concurrent page lifecycle on independent Playwright instances",
+            threadPoolSize = THREADS, invocationCount = INVOCATIONS)
+    @Story("Driver Concurrency")
+    @Severity(SeverityLevel.NORMAL)
+    public void testConcurrentPageLifecycle() {
+        Page page = PlaywrightFactory.getPage();
+        String marker = Thread.currentThread().getName() + "-" + System.nanoTime();
+        page.setContent("<html><body><h1 id='marker'>" + marker + "</h1></body></html>");
+
+        String text = page.locator("#marker").textContent();
+        Assert.assertEquals(text, marker, "Page content leaked between threads");
+        completed.incrementAndGet();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void reportThroughput() {
+        double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        logger.info("Stress run: {} lifecycles on {} threads in {}s = {} lifecycles/s, {} Playwright instances",
+                completed.get(), THREADS, String.format("%.1f", seconds),
+                String.format("%.2f", completed.get() / seconds), PlaywrightFactory.getPlaywrightCount());
+    }
+}